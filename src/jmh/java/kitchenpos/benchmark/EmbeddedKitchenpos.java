@@ -0,0 +1,22 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+final class EmbeddedKitchenpos {
+    private EmbeddedKitchenpos() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .profiles("benchmark")
+            .properties("spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+            .run();
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static Product product(final BigDecimal price) {
+        final Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName("후라이드");
+        product.setPrice(price);
+        return product;
+    }
+
+    static MenuGroup menuGroup() {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setName("두마리메뉴");
+        return menuGroup;
+    }
+
+    static MenuProduct menuProduct(final Product product, final long quantity) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProduct(product);
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(quantity);
+        return menuProduct;
+    }
+
+    static Menu menu(final MenuGroup menuGroup, final List<MenuProduct> menuProducts) {
+        BigDecimal componentCost = BigDecimal.ZERO;
+        for (final MenuProduct menuProduct : menuProducts) {
+            componentCost = componentCost.add(
+                menuProduct.getProduct()
+                    .getPrice()
+                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
+            );
+        }
+        final Menu menu = new Menu();
+        menu.setId(UUID.randomUUID());
+        menu.setName("후라이드+후라이드");
+        menu.setPrice(componentCost);
+        menu.setComponentCost(componentCost);
+        menu.setMenuGroup(menuGroup);
+        menu.setDisplayed(true);
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+
+    static Menu menu(final MenuGroup menuGroup, final int productCount) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            menuProducts.add(menuProduct(product(BigDecimal.valueOf(16_000L)), 1L));
+        }
+        return menu(menuGroup, menuProducts);
+    }
+
+    static OrderTable occupiedOrderTable() {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setId(UUID.randomUUID());
+        orderTable.setName("1번");
+        orderTable.setNumberOfGuests(4);
+        orderTable.setOccupied(true);
+        return orderTable;
+    }
+
+    static OrderLineItem orderLineItem(final Menu menu, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenu(menu);
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(quantity);
+        return orderLineItem;
+    }
+}
@@ -0,0 +1,47 @@
+package kitchenpos.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class InMemoryRepositories {
+    private InMemoryRepositories() {
+    }
+
+    static <T> Builder<T> of(final Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    static final class Builder<T> {
+        private final Class<T> type;
+        private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+        private Builder(final Class<T> type) {
+            this.type = type;
+        }
+
+        Builder<T> on(final String methodName, final Function<Object[], Object> handler) {
+            handlers.put(methodName, handler);
+            return this;
+        }
+
+        T build() {
+            return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    final Function<Object[], Object> handler = handlers.get(method.getName());
+                    if (!Objects.isNull(handler)) {
+                        return handler.apply(args);
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(this, args);
+                    }
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                }
+            ));
+        }
+    }
+}
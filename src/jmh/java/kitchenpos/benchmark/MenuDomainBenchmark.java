@@ -0,0 +1,58 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.MenuService;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.benchmark.InMemoryRepositories.of;
+
+/**
+ * Measures MenuService price and display rules with canned in-memory repositories.
+ * No SQL is issued, so results reflect domain logic only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuDomainBenchmark {
+    @Param({"1", "10"})
+    private int menuProducts;
+
+    private MenuService menuService;
+    private Menu menu;
+    private Menu request;
+
+    @Setup
+    public void setUp() {
+        menu = Fixtures.menu(Fixtures.menuGroup(), menuProducts);
+        final MenuRepository menuRepository = of(MenuRepository.class)
+            .on("findById", args -> Optional.of(menu))
+            .build();
+        menuService = new MenuService(
+            menuRepository,
+            of(MenuBulkRepository.class).build(),
+            of(MenuGroupRepository.class).build(),
+            of(ProductRepository.class).build(),
+            of(ProfanityChecker.class).build(),
+            event -> {
+            },
+            new TransactionTemplate()
+        );
+
+        request = new Menu();
+        request.setPrice(menu.getComponentCost());
+    }
+
+    @Benchmark
+    public Menu changePrice() {
+        return menuService.changePrice(menu.getId(), request);
+    }
+
+    @Benchmark
+    public Menu display() {
+        return menuService.display(menu.getId());
+    }
+}
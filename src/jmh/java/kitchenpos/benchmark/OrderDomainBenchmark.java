@@ -0,0 +1,85 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static kitchenpos.benchmark.InMemoryRepositories.of;
+
+/**
+ * Measures OrderService.create with canned in-memory repositories.
+ * No SQL is issued, so this covers validation and order assembly only; see OrderIntakeBenchmark for the database path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderDomainBenchmark {
+    @Param({"TAKEOUT", "EAT_IN"})
+    private OrderType type;
+
+    @Param({"1", "10"})
+    private int lineItems;
+
+    private OrderService orderService;
+    private Order request;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final MenuGroup menuGroup = Fixtures.menuGroup();
+        final Map<UUID, Menu> menus = new HashMap<>();
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            final Menu menu = Fixtures.menu(menuGroup, 2);
+            menus.put(menu.getId(), menu);
+            orderLineItems.add(Fixtures.orderLineItem(menu, 1L));
+        }
+        final OrderTable orderTable = Fixtures.occupiedOrderTable();
+
+        final MenuRepository menuRepository = of(MenuRepository.class)
+            .on("findAllByIdIn", args -> ((List<UUID>) args[0]).stream()
+                .map(menus::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()))
+            .build();
+        final OrderTableRepository orderTableRepository = of(OrderTableRepository.class)
+            .on("findAllById", args -> Collections.singletonList(orderTable))
+            .on("increaseOpenOrderCount", args -> 1)
+            .build();
+        final OrderRepository orderRepository = of(OrderRepository.class)
+            .on("save", args -> args[0])
+            .build();
+        orderService = new OrderService(
+            orderRepository,
+            of(OrderBulkRepository.class).build(),
+            menuRepository,
+            orderTableRepository,
+            of(DeliveryRequestRepository.class).build(),
+            of(SalesRollupRepository.class).build(),
+            event -> {
+            }
+        );
+
+        request = new Order();
+        request.setType(type);
+        request.setOrderLineItems(orderLineItems);
+        if (type == OrderType.EAT_IN) {
+            request.setOrderTableId(orderTable.getId());
+        }
+    }
+
+    @Benchmark
+    public Order create() {
+        return orderService.create(request);
+    }
+}
@@ -0,0 +1,91 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.BulkResult;
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures order intake through the real repositories on an embedded H2 database.
+ * Both benchmarks report orders per second, so create and createAll compare directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderIntakeBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"TAKEOUT", "EAT_IN"})
+    private OrderType type;
+
+    @Param({"1", "10"})
+    private int lineItems;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private Order request;
+    private List<Order> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedKitchenpos.start();
+        orderService = context.getBean(OrderService.class);
+
+        final MenuGroup menuGroup = context.getBean(MenuGroupRepository.class).save(Fixtures.menuGroup());
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            menus.add(Fixtures.menu(menuGroup, 2));
+        }
+        context.getBean(ProductRepository.class).saveAll(
+            menus.stream()
+                .flatMap(menu -> menu.getMenuProducts().stream())
+                .map(MenuProduct::getProduct)
+                .collect(Collectors.toList())
+        );
+        context.getBean(MenuBulkRepository.class).insertAll(menus);
+        final OrderTable orderTable = context.getBean(OrderTableRepository.class).save(Fixtures.occupiedOrderTable());
+
+        request = new Order();
+        request.setType(type);
+        request.setOrderLineItems(
+            menus.stream()
+                .map(menu -> Fixtures.orderLineItem(menu, 1L))
+                .collect(Collectors.toList())
+        );
+        if (type == OrderType.EAT_IN) {
+            request.setOrderTableId(orderTable.getId());
+        }
+        requests = new ArrayList<>(Collections.nCopies(BATCH_SIZE, request));
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteOrders() {
+        final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from order_line_item");
+        jdbcTemplate.update("delete from orders");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order create() {
+        return orderService.create(request);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<BulkResult> createAll() {
+        return orderService.createAll(requests);
+    }
+}
@@ -0,0 +1,94 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a guarded status transition that returns an OrderState projection with the previous path,
+ * which reloaded the order aggregate and walked its line items to render the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderTransitionBenchmark {
+    private static final Set<OrderType> ALL_TYPES = EnumSet.allOf(OrderType.class);
+
+    @Param({"1", "10"})
+    private int lineItems;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderRepository orderRepository;
+    private TransactionTemplate transactionTemplate;
+    private UUID orderId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedKitchenpos.start();
+        orderService = context.getBean(OrderService.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        final MenuGroup menuGroup = context.getBean(MenuGroupRepository.class).save(Fixtures.menuGroup());
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            menus.add(Fixtures.menu(menuGroup, 2));
+        }
+        context.getBean(ProductRepository.class).saveAll(
+            menus.stream()
+                .flatMap(menu -> menu.getMenuProducts().stream())
+                .map(MenuProduct::getProduct)
+                .collect(Collectors.toList())
+        );
+        context.getBean(MenuBulkRepository.class).insertAll(menus);
+
+        final Order request = new Order();
+        request.setType(OrderType.TAKEOUT);
+        request.setOrderLineItems(
+            menus.stream()
+                .map(menu -> Fixtures.orderLineItem(menu, 1L))
+                .collect(Collectors.toList())
+        );
+        orderId = orderService.create(request).getId();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetStatus() {
+        transactionTemplate.executeWithoutResult(
+            status -> orderRepository.changeStatus(orderId, ALL_TYPES, OrderStatus.ACCEPTED, OrderStatus.WAITING)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderState accept() {
+        return orderService.accept(orderId);
+    }
+
+    @Benchmark
+    public Order acceptLoadingAggregate() {
+        return transactionTemplate.execute(status -> {
+            orderRepository.changeStatus(orderId, ALL_TYPES, OrderStatus.WAITING, OrderStatus.ACCEPTED);
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow();
+            order.getOrderLineItems()
+                .forEach(orderLineItem -> orderLineItem.getMenu().getName());
+            return order;
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.ProductService;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPriceChangeBenchmark {
+    private static final int OTHER_PRODUCTS = 100;
+
+    @Param({"1000", "10000"})
+    private int catalogSize;
+
+    @Param({"10", "100"})
+    private int affectedMenus;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private Product product;
+    private Product request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedKitchenpos.start();
+        productService = context.getBean(ProductService.class);
+        final ProductRepository productRepository = context.getBean(ProductRepository.class);
+        final MenuGroup menuGroup = context.getBean(MenuGroupRepository.class).save(Fixtures.menuGroup());
+
+        product = Fixtures.product(BigDecimal.valueOf(16_000L));
+        final List<Product> products = new ArrayList<>();
+        products.add(product);
+        final List<Product> others = new ArrayList<>();
+        for (int i = 0; i < OTHER_PRODUCTS; i++) {
+            others.add(Fixtures.product(BigDecimal.valueOf(16_000L)));
+        }
+        products.addAll(others);
+        productRepository.saveAll(products);
+
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < catalogSize; i++) {
+            final List<MenuProduct> menuProducts = new ArrayList<>();
+            menuProducts.add(Fixtures.menuProduct(others.get(i % OTHER_PRODUCTS), 1L));
+            if (i < affectedMenus) {
+                menuProducts.add(Fixtures.menuProduct(product, 1L));
+            }
+            menus.add(Fixtures.menu(menuGroup, menuProducts));
+        }
+        context.getBean(MenuBulkRepository.class).insertAll(menus);
+
+        request = new Product();
+        request.setPrice(product.getPrice());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product changePrice() {
+        return productService.changePrice(product.getId(), request);
+    }
+}
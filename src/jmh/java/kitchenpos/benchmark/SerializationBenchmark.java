@@ -0,0 +1,91 @@
+package kitchenpos.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kitchenpos.domain.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Order order;
+    private List<Menu> menus;
+    private List<MenuView> menuViews;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        final MenuGroup menuGroup = Fixtures.menuGroup();
+        menus = new ArrayList<>();
+        menuViews = new ArrayList<>();
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final Menu menu = Fixtures.menu(menuGroup, 2);
+            menus.add(menu);
+            menuViews.add(viewOf(menu));
+            orderLineItems.add(Fixtures.orderLineItem(menu, 1L));
+        }
+
+        order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setType(OrderType.EAT_IN);
+        order.setStatus(OrderStatus.WAITING);
+        order.setOrderDateTime(LocalDateTime.now());
+        order.setOrderLineItems(orderLineItems);
+        order.setOrderTable(Fixtures.occupiedOrderTable());
+    }
+
+    @Benchmark
+    public byte[] order() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] menus() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(menus);
+    }
+
+    @Benchmark
+    public byte[] menuViews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(menuViews);
+    }
+
+    private MenuView viewOf(final Menu menu) {
+        final MenuView view = new MenuView(
+            menu.getId(),
+            menu.getName(),
+            menu.getPrice(),
+            menu.isDisplayed(),
+            menu.getMenuGroup().getId(),
+            menu.getMenuGroup().getName()
+        );
+        final List<MenuProductView> menuProducts = new ArrayList<>();
+        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+            menuProducts.add(new MenuProductView(
+                menu.getId(),
+                menuProduct.getProduct().getId(),
+                menuProduct.getProduct().getName(),
+                menuProduct.getProduct().getPrice(),
+                menuProduct.getQuantity()
+            ));
+        }
+        view.setMenuProducts(menuProducts);
+        return view;
+    }
+}
@@ -0,0 +1,74 @@
+package kitchenpos.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointLatencies {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(final String endpoint, final long elapsedNanos, final boolean success) {
+        recorders.computeIfAbsent(endpoint, key -> new Recorder(SIGNIFICANT_DIGITS))
+            .recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder())
+                .increment();
+        }
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    void report(final PrintStream out, final Path directory, final Duration elapsed) {
+        final Map<String, Histogram> histograms = new TreeMap<>();
+        recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+        final double seconds = Math.max(1L, elapsed.toMillis()) / 1_000.0;
+        out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        histograms.forEach((endpoint, histogram) -> out.printf("%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+            endpoint,
+            histogram.getTotalCount(),
+            errors.getOrDefault(endpoint, new LongAdder()).sum(),
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+            histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+            histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+            histogram.getMaxValue() / MICROS_PER_MILLI
+        ));
+        try {
+            Files.createDirectories(directory);
+            for (final Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+                final Path file = directory.resolve(fileNameOf(entry.getKey()));
+                try (final PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                    entry.getValue().outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.printf("percentile distributions (ms) written to %s%n", directory.toAbsolutePath());
+    }
+
+    private String fileNameOf(final String endpoint) {
+        return endpoint.toLowerCase()
+            .replaceAll("[^a-z0-9]+", "-")
+            .replaceAll("(^-|-$)", "") + ".hgrm";
+    }
+}
@@ -0,0 +1,105 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+final class KitchenposClient {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final EndpointLatencies latencies;
+
+    KitchenposClient(final String baseUrl, final EndpointLatencies latencies) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        this.baseUrl = baseUrl;
+        this.latencies = latencies;
+    }
+
+    JsonNode post(final String endpoint, final String path, final Object body) {
+        return post(endpoint, path, body, System.nanoTime());
+    }
+
+    JsonNode post(final String endpoint, final String path, final Object body, final long startNanos) {
+        final HttpRequest request = newRequest(path)
+            .header("Content-Type", "application/json")
+            .header("Idempotency-Key", UUID.randomUUID().toString())
+            .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+            .build();
+        return readTree(send(endpoint, request, startNanos));
+    }
+
+    JsonNode put(final String endpoint, final String path) {
+        final HttpRequest request = newRequest(path)
+            .PUT(HttpRequest.BodyPublishers.noBody())
+            .build();
+        return readTree(send(endpoint, request, System.nanoTime()));
+    }
+
+    String getIfNoneMatch(final String endpoint, final String path, final String etag, final long startNanos) {
+        final HttpRequest.Builder builder = newRequest(path).GET();
+        if (!Objects.isNull(etag)) {
+            builder.header("If-None-Match", etag);
+        }
+        return send(endpoint, builder.build(), startNanos)
+            .headers()
+            .firstValue("ETag")
+            .orElse(etag);
+    }
+
+    private HttpRequest.Builder newRequest(final String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(TIMEOUT);
+    }
+
+    private HttpResponse<byte[]> send(final String endpoint, final HttpRequest request, final long startNanos) {
+        final HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (final IOException e) {
+            latencies.record(endpoint, System.nanoTime() - startNanos, false);
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        final int status = response.statusCode();
+        final boolean success = (status >= 200 && status < 300) || status == 304;
+        latencies.record(endpoint, System.nanoTime() - startNanos, success);
+        if (!success) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + status);
+        }
+        return response;
+    }
+
+    private byte[] toJson(final Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private JsonNode readTree(final HttpResponse<byte[]> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
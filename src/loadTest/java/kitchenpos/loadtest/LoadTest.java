@@ -0,0 +1,125 @@
+package kitchenpos.loadtest;
+
+import kitchenpos.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadTest {
+    private static final long DRAIN_TIMEOUT_SECONDS = 60L;
+
+    private final LoadTestOptions options;
+    private final EndpointLatencies latencies = new EndpointLatencies();
+    private final LongAdder arrivals = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private LoadTest(final LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        try {
+            String target = options.getTarget();
+            if (options.isEmbedded()) {
+                context = boot(options);
+                target = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            }
+            new LoadTest(options).run(target);
+        } finally {
+            if (!Objects.isNull(context)) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(final LoadTestOptions options) {
+        final String[] profiles = "mysql".equals(options.getDatabase())
+            ? new String[]{"loadtest"}
+            : new String[]{"loadtest", "loadtest-h2"};
+        return new SpringApplicationBuilder(Application.class)
+            .profiles(profiles)
+            .properties("server.port=0")
+            .run();
+    }
+
+    private void run(final String target) throws InterruptedException {
+        final KitchenposClient client = new KitchenposClient(target, latencies);
+        final LunchRush lunchRush = new LunchRush(client, options);
+        lunchRush.seed();
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            options.getConcurrency(),
+            options.getConcurrency(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(options.getMaxBacklog())
+        );
+        final long startNanos = System.nanoTime();
+        final long measureNanos = startNanos + options.getWarmup().toNanos();
+        final long endNanos = measureNanos + options.getDuration().toNanos();
+        final double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1L) / options.getArrivalRate();
+        System.out.printf("driving %s at %.1f arrivals/s with %d workers (warmup %s, measure %s)%n",
+            target, options.getArrivalRate(), options.getConcurrency(), options.getWarmup(), options.getDuration());
+
+        latencies.reset();
+        boolean measuring = options.getWarmup().isZero();
+        long arrivalNanos = startNanos;
+        while (arrivalNanos < endNanos) {
+            arrivalNanos += nextInterval(meanIntervalNanos);
+            LockSupport.parkNanos(arrivalNanos - System.nanoTime());
+            if (!measuring && arrivalNanos >= measureNanos) {
+                measuring = true;
+                latencies.reset();
+                arrivals.reset();
+                dropped.reset();
+                failed.reset();
+            }
+            submit(executor, lunchRush, arrivalNanos);
+        }
+        drain(executor);
+
+        final Duration measured = Duration.ofNanos(System.nanoTime() - measureNanos);
+        latencies.report(System.out, options.getReportDirectory(), measured);
+        System.out.printf("arrivals %d, dropped %d, failed flows %d%n", arrivals.sum(), dropped.sum(), failed.sum());
+    }
+
+    private void submit(final ExecutorService executor, final LunchRush lunchRush, final long arrivalNanos) {
+        arrivals.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    lunchRush.arrive(arrivalNanos);
+                } catch (final RuntimeException e) {
+                    failed.increment();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private long nextInterval(final double meanIntervalNanos) {
+        return (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+    }
+
+    private void drain(final ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
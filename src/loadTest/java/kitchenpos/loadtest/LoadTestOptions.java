@@ -0,0 +1,127 @@
+package kitchenpos.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+final class LoadTestOptions {
+    private static final String PREFIX = "loadTest.";
+
+    private final String target;
+    private final String database;
+    private final double arrivalRate;
+    private final int concurrency;
+    private final int maxBacklog;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int products;
+    private final int menus;
+    private final int orderTables;
+    private final int eatInWeight;
+    private final int takeoutWeight;
+    private final int deliveryWeight;
+    private final int menuPollWeight;
+    private final Path reportDirectory;
+
+    private LoadTestOptions() {
+        this.target = string("target", "");
+        this.database = string("database", "h2");
+        this.arrivalRate = Double.parseDouble(string("arrival-rate", "50"));
+        this.concurrency = integer("concurrency", 32);
+        this.maxBacklog = integer("max-backlog", 10_000);
+        this.warmup = DurationStyle.detectAndParse(string("warmup", "30s"));
+        this.duration = DurationStyle.detectAndParse(string("duration", "2m"));
+        this.products = integer("products", 20);
+        this.menus = integer("menus", 50);
+        this.orderTables = integer("order-tables", concurrency);
+        this.eatInWeight = integer("mix.eat-in", 4);
+        this.takeoutWeight = integer("mix.takeout", 2);
+        this.deliveryWeight = integer("mix.delivery", 2);
+        this.menuPollWeight = integer("mix.menu-poll", 12);
+        this.reportDirectory = Paths.get(string("report-directory", "build/reports/load-test"));
+        if (arrivalRate <= 0 || concurrency <= 0 || maxBacklog <= 0 || products <= 0 || menus <= 0) {
+            throw new IllegalArgumentException();
+        }
+        if (eatInWeight + takeoutWeight + deliveryWeight + menuPollWeight <= 0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions();
+    }
+
+    private static String string(final String name, final String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static int integer(final String name, final int defaultValue) {
+        return Integer.parseInt(string(name, String.valueOf(defaultValue)));
+    }
+
+    String getTarget() {
+        return target;
+    }
+
+    boolean isEmbedded() {
+        return target.isEmpty();
+    }
+
+    String getDatabase() {
+        return database;
+    }
+
+    double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    int getMaxBacklog() {
+        return maxBacklog;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    int getProducts() {
+        return products;
+    }
+
+    int getMenus() {
+        return menus;
+    }
+
+    int getOrderTables() {
+        return orderTables;
+    }
+
+    int getEatInWeight() {
+        return eatInWeight;
+    }
+
+    int getTakeoutWeight() {
+        return takeoutWeight;
+    }
+
+    int getDeliveryWeight() {
+        return deliveryWeight;
+    }
+
+    int getMenuPollWeight() {
+        return menuPollWeight;
+    }
+
+    Path getReportDirectory() {
+        return reportDirectory;
+    }
+}
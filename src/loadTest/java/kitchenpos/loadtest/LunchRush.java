@@ -0,0 +1,150 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class LunchRush {
+    private static final String[] PRODUCT_NAMES = {"후라이드", "양념치킨", "반반치킨", "통구이", "간장치킨", "순살치킨"};
+    private static final int MAX_LINE_ITEMS = 3;
+
+    private final KitchenposClient client;
+    private final LoadTestOptions options;
+    private final List<JsonNode> menus = new ArrayList<>();
+    private final BlockingQueue<String> vacantOrderTables = new LinkedBlockingQueue<>();
+    private final AtomicReference<String> menusEtag = new AtomicReference<>();
+
+    LunchRush(final KitchenposClient client, final LoadTestOptions options) {
+        this.client = client;
+        this.options = options;
+    }
+
+    void seed() {
+        final Map<String, Object> menuGroupRequest = new LinkedHashMap<>();
+        menuGroupRequest.put("name", "점심특선");
+        final String menuGroupId = client.post("POST /api/menu-groups", "/api/menu-groups", menuGroupRequest)
+            .get("id")
+            .asText();
+
+        final List<JsonNode> products = new ArrayList<>();
+        for (int i = 0; i < options.getProducts(); i++) {
+            final Map<String, Object> request = new LinkedHashMap<>();
+            request.put("name", PRODUCT_NAMES[i % PRODUCT_NAMES.length]);
+            request.put("price", BigDecimal.valueOf(15_000L + 1_000L * (i % 5)));
+            products.add(client.post("POST /api/products", "/api/products", request));
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < options.getMenus(); i++) {
+            final JsonNode first = products.get(random.nextInt(products.size()));
+            final JsonNode second = products.get(random.nextInt(products.size()));
+            final List<Map<String, Object>> menuProducts = new ArrayList<>();
+            menuProducts.add(menuProduct(first));
+            BigDecimal price = first.get("price").decimalValue();
+            if (!first.get("id").equals(second.get("id"))) {
+                menuProducts.add(menuProduct(second));
+                price = price.add(second.get("price").decimalValue());
+            }
+            final Map<String, Object> request = new LinkedHashMap<>();
+            request.put("name", first.get("name").asText() + "+" + second.get("name").asText());
+            request.put("price", price);
+            request.put("menuGroupId", menuGroupId);
+            request.put("displayed", true);
+            request.put("menuProducts", menuProducts);
+            menus.add(client.post("POST /api/menus", "/api/menus", request));
+        }
+
+        for (int i = 0; i < options.getOrderTables(); i++) {
+            final Map<String, Object> request = new LinkedHashMap<>();
+            request.put("name", (i + 1) + "번");
+            vacantOrderTables.add(client.post("POST /api/order-tables", "/api/order-tables", request)
+                .get("id")
+                .asText());
+        }
+    }
+
+    void arrive(final long arrivalNanos) {
+        final int eatIn = options.getEatInWeight();
+        final int takeout = eatIn + options.getTakeoutWeight();
+        final int delivery = takeout + options.getDeliveryWeight();
+        final int pick = ThreadLocalRandom.current().nextInt(delivery + options.getMenuPollWeight());
+        if (pick < eatIn) {
+            eatIn(arrivalNanos);
+        } else if (pick < takeout) {
+            order("TAKEOUT", null, arrivalNanos);
+        } else if (pick < delivery) {
+            order("DELIVERY", null, arrivalNanos);
+        } else {
+            menusEtag.set(client.getIfNoneMatch("GET /api/menus", "/api/menus", menusEtag.get(), arrivalNanos));
+        }
+    }
+
+    private void eatIn(final long arrivalNanos) {
+        final String orderTableId = vacantOrderTables.poll();
+        if (Objects.isNull(orderTableId)) {
+            order("TAKEOUT", null, arrivalNanos);
+            return;
+        }
+        try {
+            client.put("PUT /api/order-tables/{id}/sit", "/api/order-tables/" + orderTableId + "/sit");
+            order("EAT_IN", orderTableId, arrivalNanos);
+        } finally {
+            vacantOrderTables.add(orderTableId);
+        }
+    }
+
+    private void order(final String type, final String orderTableId, final long arrivalNanos) {
+        final Map<String, Object> request = new LinkedHashMap<>();
+        request.put("type", type);
+        request.put("orderLineItems", orderLineItems());
+        if (!Objects.isNull(orderTableId)) {
+            request.put("orderTableId", orderTableId);
+        }
+        if ("DELIVERY".equals(type)) {
+            request.put("deliveryAddress", "서울시 송파구 위례성대로 2");
+        }
+        final String orderId = client.post("POST /api/orders", "/api/orders", request, arrivalNanos)
+            .get("id")
+            .asText();
+        final String path = "/api/orders/" + orderId;
+        client.put("PUT /api/orders/{id}/accept", path + "/accept");
+        client.put("PUT /api/orders/{id}/serve", path + "/serve");
+        if ("DELIVERY".equals(type)) {
+            client.put("PUT /api/orders/{id}/start-delivery", path + "/start-delivery");
+            client.put("PUT /api/orders/{id}/complete-delivery", path + "/complete-delivery");
+        }
+        client.put("PUT /api/orders/{id}/complete", path + "/complete");
+    }
+
+    private List<Map<String, Object>> orderLineItems() {
+        final List<JsonNode> picked = new ArrayList<>(menus);
+        Collections.shuffle(picked, ThreadLocalRandom.current());
+        final int size = 1 + ThreadLocalRandom.current().nextInt(Math.min(MAX_LINE_ITEMS, picked.size()));
+        final List<Map<String, Object>> orderLineItems = new ArrayList<>();
+        for (final JsonNode menu : picked.subList(0, size)) {
+            final Map<String, Object> orderLineItem = new LinkedHashMap<>();
+            orderLineItem.put("menuId", menu.get("id").asText());
+            orderLineItem.put("price", menu.get("price").decimalValue());
+            orderLineItem.put("quantity", 1 + ThreadLocalRandom.current().nextInt(2));
+            orderLineItems.add(orderLineItem);
+        }
+        return orderLineItems;
+    }
+
+    private Map<String, Object> menuProduct(final JsonNode product) {
+        final Map<String, Object> menuProduct = new LinkedHashMap<>();
+        menuProduct.put("productId", product.get("id").asText());
+        menuProduct.put("quantity", 1);
+        return menuProduct;
+    }
+}
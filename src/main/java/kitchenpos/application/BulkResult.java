@@ -0,0 +1,45 @@
+package kitchenpos.application;
+
+import java.util.UUID;
+
+public class BulkResult {
+    private final int index;
+    private final UUID id;
+    private final boolean succeeded;
+    private final String error;
+
+    private BulkResult(final int index, final UUID id, final boolean succeeded, final String error) {
+        this.index = index;
+        this.id = id;
+        this.succeeded = succeeded;
+        this.error = error;
+    }
+
+    public static BulkResult success(final int index, final UUID id) {
+        return new BulkResult(index, id, true, null);
+    }
+
+    public static BulkResult failure(final int index, final UUID id, final RuntimeException exception) {
+        return new BulkResult(index, id, false, exception.getClass().getSimpleName());
+    }
+
+    BulkResult withIndex(final int index) {
+        return new BulkResult(index, id, succeeded, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,188 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@ConditionalOnProperty(name = "kitchenpos.delivery.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class DeliveryRequestDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryRequestDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+    private static final Duration LEASE_MARGIN = Duration.ofSeconds(10);
+
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final KitchenridersClient kitchenridersClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executorService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public DeliveryRequestDispatcher(
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final KitchenridersClient kitchenridersClient,
+        final TransactionTemplate transactionTemplate,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.delivery.dispatcher.concurrency:4}") final int concurrency,
+        @Value("${kitchenpos.delivery.dispatcher.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.delivery.dispatcher.max-attempts:10}") final int maxAttempts,
+        @Value("${kitchenpos.delivery.dispatcher.lease:30s}") final Duration lease,
+        @Value("${kitchenpos.delivery.dispatcher.initial-backoff:1s}") final Duration initialBackoff,
+        @Value("${kitchenpos.delivery.dispatcher.max-backoff:5m}") final Duration maxBackoff,
+        @Value("${kitchenpos.kitchenriders.connect-timeout:500ms}") final Duration connectTimeout,
+        @Value("${kitchenpos.kitchenriders.read-timeout:2s}") final Duration readTimeout
+    ) {
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.kitchenridersClient = kitchenridersClient;
+        this.transactionTemplate = transactionTemplate;
+        final AtomicInteger threadIndex = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "delivery-dispatcher-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = leaseOf(lease, batchSize, concurrency, connectTimeout.plus(readTimeout));
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        Gauge.builder("kitchenpos.delivery.outbox.lag", lagMillis, value -> value.get() / 1_000.0)
+            .baseUnit("seconds")
+            .description("Age of the oldest pending delivery request")
+            .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("kitchenpos.delivery.requests", "result", "sent");
+        this.retriedCounter = meterRegistry.counter("kitchenpos.delivery.requests", "result", "retried");
+        this.failedCounter = meterRegistry.counter("kitchenpos.delivery.requests", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery.dispatcher.interval:PT1S}")
+    public void dispatch() {
+        final List<DeliveryRequest> deliveryRequests = transactionTemplate.execute(status -> claim());
+        if (!deliveryRequests.isEmpty()) {
+            final Map<Long, Throwable> failures = send(deliveryRequests);
+            transactionTemplate.executeWithoutResult(status -> complete(deliveryRequests, failures));
+        }
+        final LocalDateTime oldestCreatedAt = deliveryRequestRepository.findOldestCreatedAt(DeliveryRequestStatus.PENDING);
+        lagMillis.set(
+            Objects.isNull(oldestCreatedAt) ? 0 : Duration.between(oldestCreatedAt, LocalDateTime.now()).toMillis()
+        );
+    }
+
+    @PreDestroy
+    public void close() {
+        executorService.shutdown();
+    }
+
+    private List<DeliveryRequest> claim() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DeliveryRequest> deliveryRequests = deliveryRequestRepository.findAllDue(
+            DeliveryRequestStatus.PENDING,
+            now,
+            PageRequest.of(0, batchSize)
+        );
+        for (final DeliveryRequest deliveryRequest : deliveryRequests) {
+            deliveryRequest.setNextAttemptAt(now.plus(lease));
+        }
+        return deliveryRequests;
+    }
+
+    private Map<Long, Throwable> send(final List<DeliveryRequest> deliveryRequests) {
+        final Map<Long, Throwable> failures = new ConcurrentHashMap<>();
+        final List<CompletableFuture<Void>> futures = deliveryRequests.stream()
+            .map(deliveryRequest -> CompletableFuture.runAsync(
+                () -> kitchenridersClient.requestDelivery(
+                    deliveryRequest.getOrderId(),
+                    deliveryRequest.getAmount(),
+                    deliveryRequest.getDeliveryAddress()
+                ),
+                executorService
+            ).exceptionally(e -> {
+                failures.put(deliveryRequest.getSeq(), e.getCause());
+                return null;
+            }))
+            .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        return failures;
+    }
+
+    private void complete(final List<DeliveryRequest> claimed, final Map<Long, Throwable> failures) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DeliveryRequest> deliveryRequests = deliveryRequestRepository.findAllById(
+            claimed.stream()
+                .map(DeliveryRequest::getSeq)
+                .collect(Collectors.toList())
+        );
+        for (final DeliveryRequest deliveryRequest : deliveryRequests) {
+            final Throwable failure = failures.get(deliveryRequest.getSeq());
+            if (Objects.isNull(failure)) {
+                deliveryRequest.setStatus(DeliveryRequestStatus.SENT);
+                deliveryRequest.setSentAt(now);
+                sentCounter.increment();
+                continue;
+            }
+            final int attempts = deliveryRequest.getAttempts() + 1;
+            deliveryRequest.setAttempts(attempts);
+            deliveryRequest.setLastError(abbreviate(String.valueOf(failure)));
+            if (attempts >= maxAttempts) {
+                log.warn("Giving up delivery request for order {} after {} attempts", deliveryRequest.getOrderId(), attempts, failure);
+                deliveryRequest.setStatus(DeliveryRequestStatus.FAILED);
+                failedCounter.increment();
+                continue;
+            }
+            deliveryRequest.setNextAttemptAt(now.plus(backoff(attempts)));
+            retriedCounter.increment();
+        }
+    }
+
+    private static Duration leaseOf(
+        final Duration lease,
+        final int batchSize,
+        final int concurrency,
+        final Duration requestTimeout
+    ) {
+        final long rounds = (batchSize + concurrency - 1) / concurrency;
+        final Duration worstCase = requestTimeout.multipliedBy(rounds).plus(LEASE_MARGIN);
+        return worstCase.compareTo(lease) > 0 ? worstCase : lease;
+    }
+
+    private Duration backoff(final int attempts) {
+        final long multiplier = 1L << Math.min(attempts - 1, 30);
+        final Duration backoff = initialBackoff.multipliedBy(multiplier);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private String abbreviate(final String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
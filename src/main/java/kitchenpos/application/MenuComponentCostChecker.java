@@ -0,0 +1,74 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.CatalogChangedEvent;
+import kitchenpos.domain.HiddenMenu;
+import kitchenpos.domain.MenuBulkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.menu.cost-checker.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class MenuComponentCostChecker {
+    private static final Logger log = LoggerFactory.getLogger(MenuComponentCostChecker.class);
+    private static final int MAX_BATCHES_PER_RUN = 100;
+
+    private final MenuBulkRepository menuBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public MenuComponentCostChecker(
+        final MenuBulkRepository menuBulkRepository,
+        final TransactionTemplate transactionTemplate,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${kitchenpos.menu.cost-checker.batch-size:500}") final int batchSize
+    ) {
+        this.menuBulkRepository = menuBulkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${kitchenpos.menu.cost-checker.cron:0 30 3 * * *}")
+    public void check() {
+        int repaired = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            final Integer count = transactionTemplate.execute(status -> repair());
+            if (Objects.isNull(count) || count == 0) {
+                break;
+            }
+            repaired += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Repaired component cost of {} menus", repaired);
+        }
+    }
+
+    private int repair() {
+        final List<UUID> menuIds = menuBulkRepository.findAllIdsWithStaleComponentCost(batchSize);
+        if (menuIds.isEmpty()) {
+            return 0;
+        }
+        menuBulkRepository.refreshComponentCosts(menuIds);
+        final List<HiddenMenu> hiddenMenus = menuBulkRepository.hideAllPricedAboveComponentCost(menuIds);
+        for (final HiddenMenu hiddenMenu : hiddenMenus) {
+            log.warn("Hid menu {} priced {} above component cost {}",
+                hiddenMenu.getId(), hiddenMenu.getPrice(), hiddenMenu.getComponentCost());
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return menuIds.size();
+    }
+}
@@ -1,7 +1,10 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
+import kitchenpos.domain.CatalogChangedEvent;
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,12 +12,18 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+@Timed("kitchenpos.service")
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(
+        final MenuGroupRepository menuGroupRepository,
+        final ApplicationEventPublisher eventPublisher
+    ) {
         this.menuGroupRepository = menuGroupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -26,7 +35,9 @@ public class MenuGroupService {
         final MenuGroup menuGroup = new MenuGroup();
         menuGroup.setId(UUID.randomUUID());
         menuGroup.setName(name);
-        return menuGroupRepository.save(menuGroup);
+        final MenuGroup saved = menuGroupRepository.save(menuGroup);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,69 @@
+package kitchenpos.application;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class MenuSearchCondition {
+    private String q;
+
+    private UUID menuGroupId;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    private Boolean displayed;
+
+    private Integer limit;
+
+    public MenuSearchCondition() {
+    }
+
+    public String getQ() {
+        return q;
+    }
+
+    public void setQ(final String q) {
+        this.q = q;
+    }
+
+    public UUID getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public void setMenuGroupId(final UUID menuGroupId) {
+        this.menuGroupId = menuGroupId;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(final BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(final BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Boolean getDisplayed() {
+        return displayed;
+    }
+
+    public void setDisplayed(final Boolean displayed) {
+        this.displayed = displayed;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(final Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,208 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.CatalogChangedEvent;
+import kitchenpos.domain.MenuView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MenuSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(MenuSearchIndex.class);
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int GRAM_LENGTH = 2;
+
+    private final MenuService menuService;
+    private final Duration maxAge;
+    private final ExecutorService executorService;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    public MenuSearchIndex(
+        final MenuService menuService,
+        @Value("${kitchenpos.menu-search.max-age:30s}") final Duration maxAge
+    ) {
+        this.menuService = menuService;
+        this.maxAge = maxAge;
+        this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "menu-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(final CatalogChangedEvent event) {
+        version.incrementAndGet();
+        scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    public List<MenuView> search(final MenuSearchCondition condition) {
+        final int limit = Optional.ofNullable(condition.getLimit())
+            .orElse(DEFAULT_LIMIT);
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException();
+        }
+        final Snapshot current = currentSnapshot();
+        final String query = Objects.isNull(condition.getQ()) ? "" : normalize(condition.getQ());
+        final BitSet candidates = current.match(query);
+        if (!Objects.isNull(condition.getMenuGroupId())) {
+            candidates.and(current.menuGroups.getOrDefault(condition.getMenuGroupId(), new BitSet()));
+        }
+        if (Boolean.TRUE.equals(condition.getDisplayed())) {
+            candidates.and(current.displayed);
+        }
+        if (Boolean.FALSE.equals(condition.getDisplayed())) {
+            candidates.andNot(current.displayed);
+        }
+        final List<MenuView> menus = new ArrayList<>();
+        for (int doc = candidates.nextSetBit(0); doc >= 0 && menus.size() < limit; doc = candidates.nextSetBit(doc + 1)) {
+            final MenuView menu = current.menus[doc];
+            if (query.length() > GRAM_LENGTH && !current.names[doc].contains(query)) {
+                continue;
+            }
+            if (!Objects.isNull(condition.getMinPrice()) && menu.getPrice().compareTo(condition.getMinPrice()) < 0) {
+                continue;
+            }
+            if (!Objects.isNull(condition.getMaxPrice()) && menu.getPrice().compareTo(condition.getMaxPrice()) > 0) {
+                continue;
+            }
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    private Snapshot currentSnapshot() {
+        final Snapshot current = snapshot;
+        if (Objects.isNull(current)) {
+            return rebuild();
+        }
+        if (isStale(current)) {
+            scheduleRebuild();
+        }
+        return current;
+    }
+
+    private boolean isStale(final Snapshot current) {
+        return current.version != version.get() || current.createdAt.plus(maxAge).isBefore(Instant.now());
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        executorService.execute(() -> {
+            try {
+                rebuild();
+            } catch (final RuntimeException e) {
+                log.warn("Failed to rebuild menu search index", e);
+            } finally {
+                rebuilding.set(false);
+            }
+            final Snapshot rebuilt = snapshot;
+            if (!Objects.isNull(rebuilt) && rebuilt.version != version.get()) {
+                scheduleRebuild();
+            }
+        });
+    }
+
+    private synchronized Snapshot rebuild() {
+        final long current = version.get();
+        if (!Objects.isNull(snapshot) && !isStale(snapshot)) {
+            return snapshot;
+        }
+        final Snapshot rebuilt = new Snapshot(current, Instant.now(), menuService.findAll());
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private static String normalize(final String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("\\s+", "");
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final Instant createdAt;
+        private final MenuView[] menus;
+        private final String[] names;
+        private final Map<String, BitSet> grams = new HashMap<>();
+        private final Map<UUID, BitSet> menuGroups = new HashMap<>();
+        private final BitSet displayed = new BitSet();
+
+        private Snapshot(final long version, final Instant createdAt, final List<MenuView> menus) {
+            this.version = version;
+            this.createdAt = createdAt;
+            this.menus = menus.stream()
+                .sorted(Comparator.comparing(MenuView::getName))
+                .toArray(MenuView[]::new);
+            this.names = new String[this.menus.length];
+            for (int doc = 0; doc < this.menus.length; doc++) {
+                final MenuView menu = this.menus[doc];
+                names[doc] = normalize(menu.getName());
+                for (int length = 1; length <= GRAM_LENGTH; length++) {
+                    for (int start = 0; start + length <= names[doc].length(); start++) {
+                        grams.computeIfAbsent(names[doc].substring(start, start + length), key -> new BitSet())
+                            .set(doc);
+                    }
+                }
+                menuGroups.computeIfAbsent(menu.getMenuGroupId(), key -> new BitSet())
+                    .set(doc);
+                if (menu.isDisplayed()) {
+                    displayed.set(doc);
+                }
+            }
+        }
+
+        private BitSet match(final String query) {
+            if (query.isEmpty()) {
+                final BitSet all = new BitSet(menus.length);
+                all.set(0, menus.length);
+                return all;
+            }
+            if (query.length() <= GRAM_LENGTH) {
+                return (BitSet) grams.getOrDefault(query, new BitSet()).clone();
+            }
+            BitSet matched = null;
+            for (int start = 0; start + GRAM_LENGTH <= query.length(); start++) {
+                final BitSet postings = grams.get(query.substring(start, start + GRAM_LENGTH));
+                if (Objects.isNull(postings)) {
+                    return new BitSet();
+                }
+                if (Objects.isNull(matched)) {
+                    matched = (BitSet) postings.clone();
+                } else {
+                    matched.and(postings);
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -1,62 +1,226 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
 import kitchenpos.domain.*;
-import kitchenpos.infra.PurgomalumClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+@Timed("kitchenpos.service")
 @Service
 public class MenuService {
+    private static final int MAX_BULK_SIZE = 1_000;
+
     private final MenuRepository menuRepository;
+    private final MenuBulkRepository menuBulkRepository;
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
-    private final PurgomalumClient purgomalumClient;
+    private final ProfanityChecker profanityChecker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public MenuService(
         final MenuRepository menuRepository,
+        final MenuBulkRepository menuBulkRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final ProfanityChecker profanityChecker,
+        final ApplicationEventPublisher eventPublisher,
+        final TransactionTemplate transactionTemplate
     ) {
         this.menuRepository = menuRepository;
+        this.menuBulkRepository = menuBulkRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
-        this.purgomalumClient = purgomalumClient;
+        this.profanityChecker = profanityChecker;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    @Transactional
     public Menu create(final Menu request) {
+        final CompletableFuture<Boolean> profanity = profanityChecker.containsProfanityAsync(request.getName());
+        final List<Menu> requests = Collections.singletonList(request);
+        final Menu menu = newMenu(
+            request,
+            findMenuGroups(requests),
+            findProducts(requests),
+            name -> join(profanity)
+        );
+        final Menu saved = menuRepository.save(menu);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return saved;
+    }
+
+    public List<BulkResult> createAll(final List<Menu> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final Set<String> profaneNames = profanityChecker.findAllContainingProfanity(
+            requests.stream()
+                .map(Menu::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())
+        );
+        return transactionTemplate.execute(status -> createAll(requests, profaneNames));
+    }
+
+    @Transactional
+    public Menu changePrice(final UUID menuId, final Menu request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
-        final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
+        final Menu menu = menuRepository.findById(menuId)
+            .orElseThrow(NoSuchElementException::new);
+        if (price.compareTo(menu.getComponentCost()) > 0) {
+            throw new IllegalArgumentException();
+        }
+        menu.setPrice(price);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return menu;
+    }
+
+    @Transactional
+    public Menu display(final UUID menuId) {
+        final Menu menu = menuRepository.findById(menuId)
+            .orElseThrow(NoSuchElementException::new);
+        if (menu.getPrice().compareTo(menu.getComponentCost()) > 0) {
+            throw new IllegalStateException();
+        }
+        menu.setDisplayed(true);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return menu;
+    }
+
+    @Transactional
+    public Menu hide(final UUID menuId) {
+        final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
+        menu.setDisplayed(false);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return menu;
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuView> findAll() {
+        final List<MenuView> menus = menuRepository.findAllViews();
+        final Map<UUID, List<MenuProductView>> menuProducts = menuRepository.findAllProductViews()
+            .stream()
+            .collect(Collectors.groupingBy(MenuProductView::getMenuId));
+        for (final MenuView menu : menus) {
+            menu.setMenuProducts(menuProducts.getOrDefault(menu.getId(), Collections.emptyList()));
+        }
+        return menus;
+    }
+
+    private List<BulkResult> createAll(final List<Menu> requests, final Set<String> profaneNames) {
+        final Map<UUID, MenuGroup> menuGroups = findMenuGroups(requests);
+        final Map<UUID, Product> products = findProducts(requests);
+        final List<Menu> menus = new ArrayList<>();
+        final List<BulkResult> results = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                final Menu menu = newMenu(requests.get(index), menuGroups, products, profaneNames::contains);
+                menus.add(menu);
+                results.add(BulkResult.success(index, menu.getId()));
+            } catch (final IllegalArgumentException | NoSuchElementException e) {
+                results.add(BulkResult.failure(index, null, e));
+            }
+        }
+        if (!menus.isEmpty()) {
+            menuBulkRepository.insertAll(menus);
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+        }
+        return results;
+    }
+
+    private Map<UUID, MenuGroup> findMenuGroups(final List<Menu> requests) {
+        final List<UUID> menuGroupIds = requests.stream()
+            .map(Menu::getMenuGroupId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (menuGroupIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return menuGroupRepository.findAllById(menuGroupIds)
+            .stream()
+            .collect(Collectors.toMap(MenuGroup::getId, Function.identity()));
+    }
+
+    private Map<UUID, Product> findProducts(final List<Menu> requests) {
+        final List<UUID> productIds = requests.stream()
+            .map(Menu::getMenuProducts)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(MenuProduct::getProductId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return productRepository.findAllByIdIn(productIds)
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private static boolean join(final CompletableFuture<Boolean> profanity) {
+        try {
+            return profanity.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Menu newMenu(
+        final Menu request,
+        final Map<UUID, MenuGroup> menuGroups,
+        final Map<UUID, Product> products,
+        final Predicate<String> profanity
+    ) {
+        final BigDecimal price = request.getPrice();
+        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException();
+        }
+        final MenuGroup menuGroup = menuGroups.get(request.getMenuGroupId());
+        if (Objects.isNull(menuGroup)) {
+            throw new NoSuchElementException();
+        }
         final List<MenuProduct> menuProductRequests = request.getMenuProducts();
         if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllByIdIn(
-            menuProductRequests.stream()
-                .map(MenuProduct::getProductId)
-                .collect(Collectors.toList())
-        );
-        if (products.size() != menuProductRequests.size()) {
+        final long distinctProductCount = menuProductRequests.stream()
+            .map(MenuProduct::getProductId)
+            .distinct()
+            .count();
+        if (distinctProductCount != menuProductRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<MenuProduct> menuProducts = new ArrayList<>();
         BigDecimal sum = BigDecimal.ZERO;
         for (final MenuProduct menuProductRequest : menuProductRequests) {
+            final Product product = products.get(menuProductRequest.getProductId());
+            if (Objects.isNull(product)) {
+                throw new IllegalArgumentException();
+            }
             final long quantity = menuProductRequest.getQuantity();
             if (quantity < 0) {
                 throw new IllegalArgumentException();
             }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
             sum = sum.add(
                 product.getPrice()
                     .multiply(BigDecimal.valueOf(quantity))
@@ -70,65 +234,17 @@ public class MenuService {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        if (Objects.isNull(name) || profanity.test(name)) {
             throw new IllegalArgumentException();
         }
         final Menu menu = new Menu();
         menu.setId(UUID.randomUUID());
         menu.setName(name);
         menu.setPrice(price);
+        menu.setComponentCost(sum);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
-        return menuRepository.save(menu);
-    }
-
-    @Transactional
-    public Menu changePrice(final UUID menuId, final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException();
-        }
-        final Menu menu = menuRepository.findById(menuId)
-            .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (price.compareTo(sum) > 0) {
-                throw new IllegalArgumentException();
-            }
-        }
-        menu.setPrice(price);
-        return menu;
-    }
-
-    @Transactional
-    public Menu display(final UUID menuId) {
-        final Menu menu = menuRepository.findById(menuId)
-            .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (menu.getPrice().compareTo(sum) > 0) {
-                throw new IllegalStateException();
-            }
-        }
-        menu.setDisplayed(true);
-        return menu;
-    }
-
-    @Transactional
-    public Menu hide(final UUID menuId) {
-        final Menu menu = menuRepository.findById(menuId)
-            .orElseThrow(NoSuchElementException::new);
-        menu.setDisplayed(false);
         return menu;
     }
-
-    @Transactional(readOnly = true)
-    public List<Menu> findAll() {
-        return menuRepository.findAll();
-    }
 }
@@ -0,0 +1,59 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@ConditionalOnProperty(name = "kitchenpos.archive.enabled", havingValue = "true")
+@Component
+public class OrderArchiver {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public OrderArchiver(
+        final OrderArchiveRepository orderArchiveRepository,
+        final TransactionTemplate transactionTemplate,
+        @Value("${kitchenpos.archive.min-age:30d}") final Duration minAge,
+        @Value("${kitchenpos.archive.batch-size:500}") final int batchSize,
+        @Value("${kitchenpos.archive.max-batches-per-run:100}") final int maxBatchesPerRun
+    ) {
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${kitchenpos.archive.cron:0 0 3 * * *}")
+    public void archive() {
+        final LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            final Integer count = transactionTemplate.execute(
+                status -> orderArchiveRepository.archiveCompletedBefore(cutoff, batchSize)
+            );
+            if (Objects.isNull(count) || count == 0) {
+                break;
+            }
+            archived += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        log.info("Archived {} completed orders placed before {}", archived, cutoff);
+    }
+}
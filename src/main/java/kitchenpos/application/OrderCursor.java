@@ -0,0 +1,56 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+public class OrderCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime orderDateTime;
+    private final UUID id;
+
+    private OrderCursor(final LocalDateTime orderDateTime, final UUID id) {
+        this.orderDateTime = orderDateTime;
+        this.id = id;
+    }
+
+    public static OrderCursor of(final OrderView order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getId());
+    }
+
+    public static OrderCursor parse(final String value) {
+        if (Objects.isNull(value) || value.isEmpty()) {
+            return null;
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final int delimiterIndex = decoded.indexOf(DELIMITER);
+            return new OrderCursor(
+                LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                UUID.fromString(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public String encode() {
+        final String value = orderDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,108 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import kitchenpos.domain.OrderExportRepository;
+import kitchenpos.domain.OrderExportRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+@Timed("kitchenpos.service")
+@Service
+public class OrderExportService {
+    private static final String CSV_HEADER = "order_id,type,status,order_date_time,delivery_address,"
+        + "order_table_id,total_amount,order_line_item_seq,menu_id,price,quantity";
+
+    private final OrderExportRepository orderExportRepository;
+    private final ObjectMapper objectMapper;
+
+    public OrderExportService(final OrderExportRepository orderExportRepository, final ObjectMapper objectMapper) {
+        this.orderExportRepository = orderExportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final LocalDate date, final OrderExportFormat format, final OutputStream outputStream) {
+        if (Objects.isNull(date) || Objects.isNull(format)) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            if (format == OrderExportFormat.NDJSON) {
+                exportNdjson(date, outputStream);
+                return;
+            }
+            exportCsv(date, outputStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void exportNdjson(final LocalDate date, final OutputStream outputStream) throws IOException {
+        try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            forEachRow(date, row -> {
+                try {
+                    generator.writeObject(row);
+                    generator.writeRaw('\n');
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void exportCsv(final LocalDate date, final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        forEachRow(date, row -> {
+            try {
+                writer.write(String.join(
+                    ",",
+                    String.valueOf(row.getOrderId()),
+                    row.getType().name(),
+                    row.getStatus().name(),
+                    row.getOrderDateTime().toString(),
+                    escapeCsv(row.getDeliveryAddress()),
+                    Objects.toString(row.getOrderTableId(), ""),
+                    row.getTotalAmount().toPlainString(),
+                    String.valueOf(row.getOrderLineItemSeq()),
+                    String.valueOf(row.getMenuId()),
+                    row.getPrice().toPlainString(),
+                    String.valueOf(row.getQuantity())
+                ));
+                writer.write('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void forEachRow(final LocalDate date, final Consumer<OrderExportRow> consumer) {
+        orderExportRepository.forEachOrderLineItem(
+            date.atStartOfDay(),
+            date.plusDays(1).atStartOfDay(),
+            consumer
+        );
+    }
+
+    private String escapeCsv(final String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.application;
+
+import io.micrometer.core.annotation.Timed;
+import kitchenpos.domain.ArchivedOrder;
+import kitchenpos.domain.ArchivedOrderRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Timed("kitchenpos.service")
+@Service
+public class OrderHistoryService {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public OrderHistoryService(final ArchivedOrderRepository archivedOrderRepository) {
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ArchivedOrder> findAll(final LocalDateTime from, final LocalDateTime to, final int page, final int size) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        return archivedOrderRepository.findAllByOrderDateTimeGreaterThanEqualAndOrderDateTimeLessThan(
+            from,
+            to,
+            PageRequest.of(page, size, Sort.by("orderDateTime", "id"))
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import kitchenpos.domain.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ConditionalOnProperty(name = "kitchenpos.metrics.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class OrderMetrics {
+    private static final Set<OrderStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(OrderStatus.COMPLETED));
+
+    private final OrderRepository orderRepository;
+    private final OrderTableRepository orderTableRepository;
+    private final Map<OrderType, Map<OrderStatus, Counter>> transitions = new EnumMap<>(OrderType.class);
+    private final Map<OrderType, AtomicLong> openOrders = new EnumMap<>(OrderType.class);
+    private final AtomicLong occupiedOrderTables = new AtomicLong();
+
+    public OrderMetrics(
+        final OrderRepository orderRepository,
+        final OrderTableRepository orderTableRepository,
+        final MeterRegistry meterRegistry
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderTableRepository = orderTableRepository;
+        for (final OrderType type : OrderType.values()) {
+            final Map<OrderStatus, Counter> counters = new EnumMap<>(OrderStatus.class);
+            for (final OrderStatus status : OrderStatus.values()) {
+                counters.put(status, meterRegistry.counter(
+                    "kitchenpos.orders.transitions",
+                    "type", type.name(),
+                    "status", status.name()
+                ));
+            }
+            transitions.put(type, counters);
+            openOrders.put(type, meterRegistry.gauge("kitchenpos.orders.open", Tags.of("type", type.name()), new AtomicLong()));
+        }
+        meterRegistry.gauge("kitchenpos.order.tables.occupied", occupiedOrderTables);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(final OrderChangedEvent event) {
+        transitions.get(event.getType())
+            .get(event.getStatus())
+            .increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersChanged(final OrdersChangedEvent event) {
+        event.getChanges().forEach(this::onOrderChanged);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.metrics.gauge-refresh-interval:PT15S}")
+    public void refreshGauges() {
+        final Map<OrderType, Long> counts = new EnumMap<>(OrderType.class);
+        for (final OrderTypeCount count : orderRepository.countAllByStatusInGroupByType(OPEN_STATUSES)) {
+            counts.put(count.getType(), count.getCount());
+        }
+        openOrders.forEach((type, gauge) -> gauge.set(counts.getOrDefault(type, 0L)));
+        occupiedOrderTables.set(orderTableRepository.countByOccupied(true));
+    }
+}
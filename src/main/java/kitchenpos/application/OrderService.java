@@ -1,53 +1,334 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
 import kitchenpos.domain.*;
-import kitchenpos.infra.KitchenridersClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Timed("kitchenpos.service")
 @Service
 public class OrderService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1_000;
+    private static final Set<OrderType> ALL_TYPES = EnumSet.allOf(OrderType.class);
+
     private final OrderRepository orderRepository;
+    private final OrderBulkRepository orderBulkRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final SalesRollupRepository salesRollupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
         final OrderRepository orderRepository,
+        final OrderBulkRepository orderBulkRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final SalesRollupRepository salesRollupRepository,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.orderRepository = orderRepository;
+        this.orderBulkRepository = orderBulkRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.salesRollupRepository = salesRollupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Order create(final Order request) {
+        final List<Order> requests = Collections.singletonList(request);
+        final Order order = orderRepository.save(newOrder(request, findMenus(requests), findOrderTables(requests)));
+        if (order.getType() == OrderType.EAT_IN) {
+            if (orderTableRepository.increaseOpenOrderCount(order.getOrderTable().getId()) == 0) {
+                throw new IllegalStateException();
+            }
+        }
+        eventPublisher.publishEvent(OrderChangedEvent.of(order));
+        return order;
+    }
+
+    @Transactional
+    public List<BulkResult> createAll(final List<Order> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, Menu> menus = findMenus(requests);
+        final Map<UUID, OrderTable> orderTables = findOrderTables(requests);
+        final Map<Integer, Order> candidates = new LinkedHashMap<>();
+        final BulkResult[] results = new BulkResult[requests.size()];
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                candidates.put(index, newOrder(requests.get(index), menus, orderTables));
+            } catch (final IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                results[index] = BulkResult.failure(index, null, e);
+            }
+        }
+        final Set<UUID> unavailableOrderTables = orderBulkRepository.increaseOpenOrderCounts(
+            candidates.values()
+                .stream()
+                .filter(order -> order.getType() == OrderType.EAT_IN)
+                .collect(Collectors.groupingBy(order -> order.getOrderTable().getId(), Collectors.counting()))
+        );
+        final List<Order> orders = new ArrayList<>();
+        candidates.forEach((index, order) -> {
+            if (order.getType() == OrderType.EAT_IN && unavailableOrderTables.contains(order.getOrderTable().getId())) {
+                results[index] = BulkResult.failure(index, null, new IllegalStateException());
+                return;
+            }
+            orders.add(order);
+            results[index] = BulkResult.success(index, order.getId());
+        });
+        orderBulkRepository.insertAll(orders);
+        if (!orders.isEmpty()) {
+            eventPublisher.publishEvent(new OrdersChangedEvent(
+                orders.stream()
+                    .map(OrderChangedEvent::of)
+                    .collect(Collectors.toList())
+            ));
+        }
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    public OrderState accept(final UUID orderId) {
+        changeStatus(orderId, ALL_TYPES, OrderStatus.WAITING, OrderStatus.ACCEPTED);
+        final OrderState state = findState(orderId);
+        if (state.getType() == OrderType.DELIVERY) {
+            requestDelivery(orderRepository.findById(orderId).orElseThrow(NoSuchElementException::new));
+        }
+        eventPublisher.publishEvent(OrderChangedEvent.of(state));
+        return state;
+    }
+
+    @Transactional
+    public OrderState serve(final UUID orderId) {
+        changeStatus(orderId, ALL_TYPES, OrderStatus.ACCEPTED, OrderStatus.SERVED);
+        final OrderState state = findState(orderId);
+        eventPublisher.publishEvent(OrderChangedEvent.of(state));
+        return state;
+    }
+
+    @Transactional
+    public OrderState startDelivery(final UUID orderId) {
+        changeStatus(orderId, EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING);
+        final OrderState state = findState(orderId);
+        eventPublisher.publishEvent(OrderChangedEvent.of(state));
+        return state;
+    }
+
+    @Transactional
+    public OrderState completeDelivery(final UUID orderId) {
+        changeStatus(orderId, ALL_TYPES, OrderStatus.DELIVERING, OrderStatus.DELIVERED);
+        final OrderState state = findState(orderId);
+        eventPublisher.publishEvent(OrderChangedEvent.of(state));
+        return state;
+    }
+
+    @Transactional
+    public OrderState complete(final UUID orderId) {
+        final int updated = orderRepository.changeStatus(
+            orderId,
+            EnumSet.of(OrderType.DELIVERY),
+            OrderStatus.DELIVERED,
+            OrderStatus.COMPLETED
+        );
+        if (updated == 0) {
+            changeStatus(orderId, EnumSet.of(OrderType.TAKEOUT, OrderType.EAT_IN), OrderStatus.SERVED, OrderStatus.COMPLETED);
+        }
+        salesRollupRepository.addAll(Collections.singletonList(orderId));
+        final OrderState state = findState(orderId);
+        if (state.getType() == OrderType.EAT_IN) {
+            orderTableRepository.decreaseOpenOrderCount(state.getOrderTableId());
+            orderTableRepository.clearIfNoOpenOrders(state.getOrderTableId());
+        }
+        eventPublisher.publishEvent(OrderChangedEvent.of(state));
+        return state;
+    }
+
+    @Transactional
+    public List<BulkResult> transitionAll(final OrderTransitionRequest request) {
+        final OrderTransition transition = request.getTransition();
+        final List<UUID> orderIds = request.getOrderIds();
+        if (Objects.isNull(transition) || Objects.isNull(orderIds) || orderIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        if (orderIds.size() > MAX_BULK_SIZE || orderIds.contains(null)) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, OrderState> states = orderBulkRepository.findAllForUpdate(new HashSet<>(orderIds))
+            .stream()
+            .collect(Collectors.toMap(OrderState::getOrderId, Function.identity()));
+        final Map<UUID, OrderState> transitioned = new LinkedHashMap<>();
+        final List<BulkResult> results = new ArrayList<>();
+        for (int index = 0; index < orderIds.size(); index++) {
+            final UUID orderId = orderIds.get(index);
+            final OrderState state = states.get(orderId);
+            if (Objects.isNull(state)) {
+                results.add(BulkResult.failure(index, orderId, new NoSuchElementException()));
+                continue;
+            }
+            if (!transitioned.containsKey(orderId) && !transition.isApplicableTo(state.getType(), state.getStatus())) {
+                results.add(BulkResult.failure(index, orderId, new IllegalStateException()));
+                continue;
+            }
+            transitioned.put(orderId, state);
+            results.add(BulkResult.success(index, orderId));
+        }
+        orderBulkRepository.changeStatus(transitioned.keySet(), transition.getTarget());
+        if (transition == OrderTransition.ACCEPT) {
+            orderRepository.findAllById(idsOf(transitioned.values(), OrderType.DELIVERY))
+                .forEach(this::requestDelivery);
+        }
+        if (transition == OrderTransition.COMPLETE) {
+            salesRollupRepository.addAll(transitioned.keySet());
+            orderBulkRepository.releaseOrderTables(
+                transitioned.values()
+                    .stream()
+                    .filter(state -> state.getType() == OrderType.EAT_IN)
+                    .collect(Collectors.groupingBy(OrderState::getOrderTableId, Collectors.counting()))
+            );
+        }
+        if (!transitioned.isEmpty()) {
+            eventPublisher.publishEvent(new OrdersChangedEvent(
+                transitioned.values()
+                    .stream()
+                    .map(state -> new OrderChangedEvent(
+                        state.getOrderId(),
+                        state.getType(),
+                        transition.getTarget(),
+                        state.getOrderTableId()
+                    ))
+                    .collect(Collectors.toList())
+            ));
+        }
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<OrderView> findAll(final OrderSearchCondition condition) {
+        final int size = Optional.ofNullable(condition.getSize())
+            .orElse(DEFAULT_PAGE_SIZE);
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final OrderCursor cursor = OrderCursor.parse(condition.getCursor());
+        final List<OrderView> orders = orderRepository.findAllViewsAfter(
+            condition.getStatus(),
+            condition.getType(),
+            condition.getOrderTableId(),
+            condition.getFrom(),
+            condition.getTo(),
+            Objects.isNull(cursor) ? null : cursor.getOrderDateTime(),
+            Objects.isNull(cursor) ? null : cursor.getId(),
+            PageRequest.of(0, size + 1)
+        );
+        final boolean hasNext = orders.size() > size;
+        final List<OrderView> content = hasNext ? orders.subList(0, size) : orders;
+        if (!content.isEmpty()) {
+            final Map<UUID, List<OrderLineItemView>> orderLineItems = orderRepository.findAllLineItemViewsByOrderIdIn(
+                    content.stream()
+                        .map(OrderView::getId)
+                        .collect(Collectors.toList())
+                )
+                .stream()
+                .collect(Collectors.groupingBy(OrderLineItemView::getOrderId));
+            for (final OrderView order : content) {
+                order.setOrderLineItems(orderLineItems.getOrDefault(order.getId(), Collections.emptyList()));
+            }
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private OrderState findState(final UUID orderId) {
+        return orderRepository.findStateById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    private void changeStatus(
+        final UUID orderId,
+        final Set<OrderType> types,
+        final OrderStatus current,
+        final OrderStatus next
+    ) {
+        if (orderRepository.changeStatus(orderId, types, current, next) == 0) {
+            if (!orderRepository.existsById(orderId)) {
+                throw new NoSuchElementException();
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    private Map<UUID, Menu> findMenus(final List<Order> requests) {
+        final List<UUID> menuIds = requests.stream()
+            .filter(Objects::nonNull)
+            .map(Order::getOrderLineItems)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .filter(Objects::nonNull)
+            .map(OrderLineItem::getMenuId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (menuIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return menuRepository.findAllByIdIn(menuIds)
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+    }
+
+    private Map<UUID, OrderTable> findOrderTables(final List<Order> requests) {
+        final List<UUID> orderTableIds = requests.stream()
+            .filter(Objects::nonNull)
+            .filter(request -> request.getType() == OrderType.EAT_IN)
+            .map(Order::getOrderTableId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findAllById(orderTableIds)
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private Order newOrder(final Order request, final Map<UUID, Menu> menus, final Map<UUID, OrderTable> orderTables) {
+        if (Objects.isNull(request)) {
+            throw new IllegalArgumentException();
+        }
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
-        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
+        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty() || orderLineItemRequests.contains(null)) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .collect(Collectors.toList())
-        );
-        if (menus.size() != orderLineItemRequests.size()) {
+        final long distinctMenuCount = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .distinct()
+            .count();
+        if (distinctMenuCount != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
         for (final OrderLineItem orderLineItemRequest : orderLineItemRequests) {
             final long quantity = orderLineItemRequest.getQuantity();
             if (type != OrderType.EAT_IN) {
@@ -55,8 +336,10 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final Menu menu = menus.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new IllegalArgumentException();
+            }
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
@@ -66,7 +349,12 @@ public class OrderService {
             final OrderLineItem orderLineItem = new OrderLineItem();
             orderLineItem.setMenu(menu);
             orderLineItem.setQuantity(quantity);
+            orderLineItem.setPrice(menu.getPrice());
             orderLineItems.add(orderLineItem);
+            totalAmount = totalAmount.add(
+                menu.getPrice()
+                    .multiply(BigDecimal.valueOf(quantity))
+            );
         }
         Order order = new Order();
         order.setId(UUID.randomUUID());
@@ -74,6 +362,7 @@ public class OrderService {
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
         order.setOrderLineItems(orderLineItems);
+        order.setTotalAmount(totalAmount);
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
             if (Objects.isNull(deliveryAddress) || deliveryAddress.isEmpty()) {
@@ -82,101 +371,39 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
-                .orElseThrow(NoSuchElementException::new);
+            final UUID orderTableId = request.getOrderTableId();
+            if (Objects.isNull(orderTableId)) {
+                throw new IllegalArgumentException();
+            }
+            final OrderTable orderTable = orderTables.get(orderTableId);
+            if (Objects.isNull(orderTable)) {
+                throw new NoSuchElementException();
+            }
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
-    }
-
-    @Transactional
-    public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
-        }
-        order.setStatus(OrderStatus.ACCEPTED);
-        return order;
-    }
-
-    @Transactional
-    public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
-    }
-
-    @Transactional
-    public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
         return order;
     }
 
-    @Transactional
-    public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+    private List<UUID> idsOf(final Collection<OrderState> states, final OrderType type) {
+        return states.stream()
+            .filter(state -> state.getType() == type)
+            .map(OrderState::getOrderId)
+            .collect(Collectors.toList());
     }
 
-    @Transactional
-    public Order complete(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
-            }
-        }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
-            }
-        }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
-                orderTable.setNumberOfGuests(0);
-                orderTable.setOccupied(false);
-            }
-        }
-        return order;
-    }
-
-    @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    private void requestDelivery(final Order order) {
+        final LocalDateTime now = LocalDateTime.now();
+        final DeliveryRequest deliveryRequest = new DeliveryRequest();
+        deliveryRequest.setOrderId(order.getId());
+        deliveryRequest.setAmount(order.getTotalAmount());
+        deliveryRequest.setDeliveryAddress(order.getDeliveryAddress());
+        deliveryRequest.setStatus(DeliveryRequestStatus.PENDING);
+        deliveryRequest.setAttempts(0);
+        deliveryRequest.setNextAttemptAt(now);
+        deliveryRequest.setCreatedAt(now);
+        deliveryRequestRepository.save(deliveryRequest);
     }
 }
@@ -0,0 +1,31 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderTransition;
+
+import java.util.List;
+import java.util.UUID;
+
+public class OrderTransitionRequest {
+    private OrderTransition transition;
+
+    private List<UUID> orderIds;
+
+    public OrderTransitionRequest() {
+    }
+
+    public OrderTransition getTransition() {
+        return transition;
+    }
+
+    public void setTransition(final OrderTransition transition) {
+        this.transition = transition;
+    }
+
+    public List<UUID> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(final List<UUID> orderIds) {
+        this.orderIds = orderIds;
+    }
+}
@@ -0,0 +1,23 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.HiddenMenu;
+
+import java.util.List;
+
+public class ProductPriceChangeResult {
+    private final List<BulkResult> results;
+    private final List<HiddenMenu> hiddenMenus;
+
+    public ProductPriceChangeResult(final List<BulkResult> results, final List<HiddenMenu> hiddenMenus) {
+        this.results = results;
+        this.hiddenMenus = hiddenMenus;
+    }
+
+    public List<BulkResult> getResults() {
+        return results;
+    }
+
+    public List<HiddenMenu> getHiddenMenus() {
+        return hiddenMenus;
+    }
+}
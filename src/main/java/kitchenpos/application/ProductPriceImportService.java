@@ -0,0 +1,101 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import kitchenpos.domain.Product;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Timed("kitchenpos.service")
+@Service
+public class ProductPriceImportService {
+    private static final String CSV_HEADER_PREFIX = "product_id";
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+
+    public ProductPriceImportService(final ProductService productService, final ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+    }
+
+    public ProductPriceChangeResult importPrices(final InputStream inputStream, final ProductPriceFormat format) {
+        if (Objects.isNull(format)) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            if (format == ProductPriceFormat.JSON) {
+                return productService.changePrices(readJson(inputStream));
+            }
+            final List<Integer> lineNumbers = new ArrayList<>();
+            final ProductPriceChangeResult result = productService.changePrices(readCsv(inputStream, lineNumbers));
+            return new ProductPriceChangeResult(
+                result.getResults()
+                    .stream()
+                    .map(bulkResult -> bulkResult.withIndex(lineNumbers.get(bulkResult.getIndex())))
+                    .collect(Collectors.toList()),
+                result.getHiddenMenus()
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Product> readJson(final InputStream inputStream) throws IOException {
+        final List<Product> products = new ArrayList<>();
+        try (final MappingIterator<Product> iterator = objectMapper.readerFor(Product.class).readValues(inputStream)) {
+            while (iterator.hasNext()) {
+                products.add(iterator.next());
+                checkBulkSize(products.size());
+            }
+        }
+        return products;
+    }
+
+    private List<Product> readCsv(final InputStream inputStream, final List<Integer> lineNumbers) throws IOException {
+        final List<Product> products = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while (!Objects.isNull(line = reader.readLine())) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith(CSV_HEADER_PREFIX)) {
+                continue;
+            }
+            products.add(parseCsvLine(line));
+            lineNumbers.add(lineNumber);
+            checkBulkSize(products.size());
+        }
+        return products;
+    }
+
+    private void checkBulkSize(final int size) {
+        if (size > ProductService.MAX_BULK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private Product parseCsvLine(final String line) {
+        final Product product = new Product();
+        final String[] columns = line.split(",", -1);
+        if (columns.length != 2) {
+            return product;
+        }
+        try {
+            product.setId(UUID.fromString(columns[0].trim()));
+            product.setPrice(new BigDecimal(columns[1].trim()));
+        } catch (final IllegalArgumentException e) {
+            return product;
+        }
+        return product;
+    }
+}
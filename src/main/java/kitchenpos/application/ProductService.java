@@ -1,40 +1,47 @@
 package kitchenpos.application;
 
+import io.micrometer.core.annotation.Timed;
 import kitchenpos.domain.*;
-import kitchenpos.infra.PurgomalumClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
+@Timed("kitchenpos.service")
 @Service
 public class ProductService {
+    static final int MAX_BULK_SIZE = 10_000;
+
     private final ProductRepository productRepository;
-    private final MenuRepository menuRepository;
-    private final PurgomalumClient purgomalumClient;
+    private final ProductBulkRepository productBulkRepository;
+    private final MenuBulkRepository menuBulkRepository;
+    private final ProfanityChecker profanityChecker;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProductService(
         final ProductRepository productRepository,
-        final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final ProductBulkRepository productBulkRepository,
+        final MenuBulkRepository menuBulkRepository,
+        final ProfanityChecker profanityChecker,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.productRepository = productRepository;
-        this.menuRepository = menuRepository;
-        this.purgomalumClient = purgomalumClient;
+        this.productBulkRepository = productBulkRepository;
+        this.menuBulkRepository = menuBulkRepository;
+        this.profanityChecker = profanityChecker;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
     public Product create(final Product request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        if (Objects.isNull(name) || profanityChecker.containsProfanity(name)) {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
@@ -53,23 +60,68 @@ public class ProductService {
         final Product product = productRepository.findById(productId)
             .orElseThrow(NoSuchElementException::new);
         product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
+        productRepository.flush();
+        reevaluateMenus(Collections.singleton(productId));
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return product;
+    }
+
+    @Transactional
+    public ProductPriceChangeResult changePrices(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final Set<UUID> productIds = productRepository.findAllByIdIn(
+                requests.stream()
+                    .map(Product::getId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList())
+            )
+            .stream()
+            .map(Product::getId)
+            .collect(Collectors.toSet());
+        final Map<UUID, Product> products = new LinkedHashMap<>();
+        final List<BulkResult> results = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            final Product request = requests.get(index);
+            try {
+                final BigDecimal price = request.getPrice();
+                if (Objects.isNull(request.getId()) || Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+                    throw new IllegalArgumentException();
+                }
+                if (!productIds.contains(request.getId())) {
+                    throw new NoSuchElementException();
+                }
+                if (products.containsKey(request.getId())) {
+                    throw new IllegalArgumentException();
+                }
+                final Product product = new Product();
+                product.setId(request.getId());
+                product.setPrice(price);
+                products.put(product.getId(), product);
+                results.add(BulkResult.success(index, product.getId()));
+            } catch (final IllegalArgumentException | NoSuchElementException e) {
+                results.add(BulkResult.failure(index, request.getId(), e));
             }
         }
-        return product;
+        if (products.isEmpty()) {
+            return new ProductPriceChangeResult(results, Collections.emptyList());
+        }
+        productBulkRepository.changePrices(new ArrayList<>(products.values()));
+        final List<HiddenMenu> hiddenMenus = reevaluateMenus(products.keySet());
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return new ProductPriceChangeResult(results, hiddenMenus);
     }
 
     @Transactional(readOnly = true)
     public List<Product> findAll() {
         return productRepository.findAll();
     }
+
+    private List<HiddenMenu> reevaluateMenus(final Collection<UUID> productIds) {
+        final List<UUID> menuIds = menuBulkRepository.findAllIdsByProductIds(productIds);
+        menuBulkRepository.refreshComponentCosts(menuIds);
+        return menuBulkRepository.hideAllPricedAboveComponentCost(menuIds);
+    }
 }
@@ -0,0 +1,78 @@
+package kitchenpos.application;
+
+import io.micrometer.core.annotation.Timed;
+import kitchenpos.domain.SalesDimension;
+import kitchenpos.domain.SalesRollupRepository;
+import kitchenpos.domain.SalesSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Timed("kitchenpos.service")
+@Service
+public class SalesReportService {
+    private static final long MAX_REBUILD_DAYS = 31L;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executorService;
+
+    public SalesReportService(
+        final SalesRollupRepository salesRollupRepository,
+        final TransactionTemplate transactionTemplate,
+        @Value("${kitchenpos.sales-rollup.rebuild-parallelism:4}") final int rebuildParallelism
+    ) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executorService = Executors.newFixedThreadPool(rebuildParallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "sales-rollup-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesSummary> summarize(final LocalDate from, final LocalDate to, final SalesDimension dimension) {
+        validateRange(from, to);
+        if (Objects.isNull(dimension)) {
+            throw new IllegalArgumentException();
+        }
+        return salesRollupRepository.summarize(from, to, dimension);
+    }
+
+    public void rebuild(final LocalDate from, final LocalDate to) {
+        validateRange(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REBUILD_DAYS) {
+            throw new IllegalArgumentException();
+        }
+        CompletableFuture.allOf(
+            from.datesUntil(to.plusDays(1))
+                .map(salesDate -> CompletableFuture.runAsync(
+                    () -> transactionTemplate.executeWithoutResult(status -> salesRollupRepository.rebuild(salesDate)),
+                    executorService
+                ))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+    }
+
+    @PreDestroy
+    public void close() {
+        executorService.shutdown();
+    }
+
+    private void validateRange(final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.domain;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "order_line_item_archive")
+@Entity
+public class ArchivedOrderLineItem {
+    @Column(name = "seq")
+    @Id
+    private Long seq;
+
+    @Column(name = "order_id", columnDefinition = "binary(16)", nullable = false, insertable = false, updatable = false)
+    private UUID orderId;
+
+    @Column(name = "order_date_time", nullable = false)
+    private LocalDateTime orderDateTime;
+
+    @Column(name = "menu_id", columnDefinition = "binary(16)", nullable = false)
+    private UUID menuId;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "price", nullable = false)
+    private BigDecimal price;
+
+    public ArchivedOrderLineItem() {
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
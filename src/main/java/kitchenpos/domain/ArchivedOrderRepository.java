@@ -0,0 +1,16 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+    Slice<ArchivedOrder> findAllByOrderDateTimeGreaterThanEqualAndOrderDateTimeLessThan(
+        LocalDateTime from,
+        LocalDateTime to,
+        Pageable pageable
+    );
+}
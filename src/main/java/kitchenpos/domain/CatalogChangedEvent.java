@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+public class CatalogChangedEvent {
+    public CatalogChangedEvent() {
+    }
+}
@@ -0,0 +1,29 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeliveryRequestRepository extends JpaRepository<DeliveryRequest, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select d from DeliveryRequest d"
+        + " where d.status = :status and d.nextAttemptAt <= :now"
+        + " order by d.nextAttemptAt, d.seq")
+    List<DeliveryRequest> findAllDue(
+        @Param("status") DeliveryRequestStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Query("select min(d.createdAt) from DeliveryRequest d where d.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") DeliveryRequestStatus status);
+}
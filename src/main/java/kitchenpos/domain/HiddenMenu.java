@@ -0,0 +1,34 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class HiddenMenu {
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+    private final BigDecimal componentCost;
+
+    public HiddenMenu(final UUID id, final String name, final BigDecimal price, final BigDecimal componentCost) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.componentCost = componentCost;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public BigDecimal getComponentCost() {
+        return componentCost;
+    }
+}
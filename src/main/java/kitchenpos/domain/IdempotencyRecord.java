@@ -0,0 +1,75 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class IdempotencyRecord {
+    private final String key;
+    private final String requestHash;
+    private final Integer statusCode;
+    private final String contentType;
+    private final String location;
+    private final byte[] responseBody;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime expiresAt;
+
+    public IdempotencyRecord(
+        final String key,
+        final String requestHash,
+        final Integer statusCode,
+        final String contentType,
+        final String location,
+        final byte[] responseBody,
+        final LocalDateTime createdAt,
+        final LocalDateTime expiresAt
+    ) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.location = location;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return !Objects.isNull(statusCode);
+    }
+
+    public boolean isExpired(final LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
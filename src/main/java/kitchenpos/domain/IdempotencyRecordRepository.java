@@ -0,0 +1,16 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository {
+    boolean reserve(String key, String owner, LocalDateTime createdAt, LocalDateTime leaseExpiresAt);
+
+    Optional<IdempotencyRecord> findByKey(String key);
+
+    void complete(IdempotencyRecord record, String owner);
+
+    void release(String key, String owner);
+
+    int deleteAllExpiredBefore(LocalDateTime now);
+}
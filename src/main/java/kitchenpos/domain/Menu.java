@@ -18,6 +18,9 @@ public class Menu {
     @Column(name = "price", nullable = false)
     private BigDecimal price;
 
+    @Column(name = "component_cost", nullable = false, updatable = false)
+    private BigDecimal componentCost;
+
     @ManyToOne(optional = false)
     @JoinColumn(
         name = "menu_group_id",
@@ -68,6 +71,14 @@ public class Menu {
         this.price = price;
     }
 
+    public BigDecimal getComponentCost() {
+        return componentCost;
+    }
+
+    public void setComponentCost(final BigDecimal componentCost) {
+        this.componentCost = componentCost;
+    }
+
     public MenuGroup getMenuGroup() {
         return menuGroup;
     }
@@ -0,0 +1,17 @@
+package kitchenpos.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface MenuBulkRepository {
+    void insertAll(List<Menu> menus);
+
+    List<UUID> findAllIdsByProductIds(Collection<UUID> productIds);
+
+    List<UUID> findAllIdsWithStaleComponentCost(int limit);
+
+    void refreshComponentCosts(Collection<UUID> menuIds);
+
+    List<HiddenMenu> hideAllPricedAboveComponentCost(Collection<UUID> menuIds);
+}
@@ -0,0 +1,49 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class MenuProductView {
+    private final UUID menuId;
+    private final UUID productId;
+    private final String productName;
+    private final BigDecimal productPrice;
+    private final long quantity;
+
+    public MenuProductView(
+        final UUID menuId,
+        final UUID productId,
+        final String productName,
+        final BigDecimal productPrice,
+        final long quantity
+    ) {
+        this.menuId = menuId;
+        this.productId = productId;
+        this.productName = productName;
+        this.productPrice = productPrice;
+        this.quantity = quantity;
+    }
+
+    @JsonIgnore
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public BigDecimal getProductPrice() {
+        return productPrice;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
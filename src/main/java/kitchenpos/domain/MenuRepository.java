@@ -1,15 +1,22 @@
 package kitchenpos.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface MenuRepository extends JpaRepository<Menu, UUID> {
+    @EntityGraph(attributePaths = "menuGroup")
     List<Menu> findAllByIdIn(List<UUID> ids);
 
-    @Query("select m from Menu m, MenuProduct mp where mp.product.id = :productId")
-    List<Menu> findAllByProductId(@Param("productId") UUID productId);
+    @Query("select new kitchenpos.domain.MenuView(m.id, m.name, m.price, m.displayed, g.id, g.name)"
+        + " from Menu m join m.menuGroup g")
+    List<MenuView> findAllViews();
+
+    @Query("select new kitchenpos.domain.MenuProductView(m.id, p.id, p.name, p.price, mp.quantity)"
+        + " from Menu m join m.menuProducts mp join mp.product p"
+        + " order by mp.seq")
+    List<MenuProductView> findAllProductViews();
 }
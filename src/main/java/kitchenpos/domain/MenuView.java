@@ -0,0 +1,64 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class MenuView {
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+    private final boolean displayed;
+    private final UUID menuGroupId;
+    private final String menuGroupName;
+    private List<MenuProductView> menuProducts = new ArrayList<>();
+
+    public MenuView(
+        final UUID id,
+        final String name,
+        final BigDecimal price,
+        final boolean displayed,
+        final UUID menuGroupId,
+        final String menuGroupName
+    ) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.displayed = displayed;
+        this.menuGroupId = menuGroupId;
+        this.menuGroupName = menuGroupName;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public UUID getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public String getMenuGroupName() {
+        return menuGroupName;
+    }
+
+    public List<MenuProductView> getMenuProducts() {
+        return menuProducts;
+    }
+
+    public void setMenuProducts(final List<MenuProductView> menuProducts) {
+        this.menuProducts = menuProducts;
+    }
+}
@@ -1,6 +1,7 @@
 package kitchenpos.domain;
 
 import javax.persistence.*;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +36,9 @@ public class Order {
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
     @ManyToOne
     @JoinColumn(
         name = "order_table_id",
@@ -97,6 +101,14 @@ public class Order {
         this.deliveryAddress = deliveryAddress;
     }
 
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(final BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
     public OrderTable getOrderTable() {
         return orderTable;
     }
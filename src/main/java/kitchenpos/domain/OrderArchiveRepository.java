@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+
+public interface OrderArchiveRepository {
+    int archiveCompletedBefore(LocalDateTime cutoff, int batchSize);
+}
@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface OrderBulkRepository {
+    void insertAll(List<Order> orders);
+
+    Set<UUID> increaseOpenOrderCounts(Map<UUID, Long> orderCounts);
+
+    List<OrderState> findAllForUpdate(Collection<UUID> orderIds);
+
+    void changeStatus(Collection<UUID> orderIds, OrderStatus status);
+
+    void releaseOrderTables(Map<UUID, Long> completedOrderCounts);
+}
@@ -0,0 +1,48 @@
+package kitchenpos.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public class OrderChangedEvent {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final UUID orderTableId;
+
+    public OrderChangedEvent(final UUID orderId, final OrderType type, final OrderStatus status, final UUID orderTableId) {
+        this.orderId = orderId;
+        this.type = type;
+        this.status = status;
+        this.orderTableId = orderTableId;
+    }
+
+    public static OrderChangedEvent of(final Order order) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderChangedEvent(
+            order.getId(),
+            order.getType(),
+            order.getStatus(),
+            Objects.isNull(orderTable) ? null : orderTable.getId()
+        );
+    }
+
+    public static OrderChangedEvent of(final OrderState state) {
+        return new OrderChangedEvent(state.getOrderId(), state.getType(), state.getStatus(), state.getOrderTableId());
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+}
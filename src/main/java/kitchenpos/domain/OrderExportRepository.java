@@ -0,0 +1,8 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface OrderExportRepository {
+    void forEachOrderLineItem(LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> consumer);
+}
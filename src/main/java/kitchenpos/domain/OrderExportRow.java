@@ -0,0 +1,89 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderExportRow {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final LocalDateTime orderDateTime;
+    private final String deliveryAddress;
+    private final UUID orderTableId;
+    private final BigDecimal totalAmount;
+    private final long orderLineItemSeq;
+    private final UUID menuId;
+    private final BigDecimal price;
+    private final long quantity;
+
+    public OrderExportRow(
+        final UUID orderId,
+        final OrderType type,
+        final OrderStatus status,
+        final LocalDateTime orderDateTime,
+        final String deliveryAddress,
+        final UUID orderTableId,
+        final BigDecimal totalAmount,
+        final long orderLineItemSeq,
+        final UUID menuId,
+        final BigDecimal price,
+        final long quantity
+    ) {
+        this.orderId = orderId;
+        this.type = type;
+        this.status = status;
+        this.orderDateTime = orderDateTime;
+        this.deliveryAddress = deliveryAddress;
+        this.orderTableId = orderTableId;
+        this.totalAmount = totalAmount;
+        this.orderLineItemSeq = orderLineItemSeq;
+        this.menuId = menuId;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public long getOrderLineItemSeq() {
+        return orderLineItemSeq;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
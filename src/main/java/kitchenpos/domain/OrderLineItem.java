@@ -23,11 +23,11 @@ public class OrderLineItem {
     @Column(name = "quantity", nullable = false)
     private long quantity;
 
-    @Transient
-    private UUID menuId;
+    @Column(name = "price", nullable = false)
+    private BigDecimal price;
 
     @Transient
-    private BigDecimal price;
+    private UUID menuId;
 
     public OrderLineItem() {
     }
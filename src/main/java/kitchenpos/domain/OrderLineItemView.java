@@ -0,0 +1,49 @@
+package kitchenpos.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class OrderLineItemView {
+    private final UUID orderId;
+    private final UUID menuId;
+    private final String menuName;
+    private final BigDecimal price;
+    private final long quantity;
+
+    public OrderLineItemView(
+        final UUID orderId,
+        final UUID menuId,
+        final String menuName,
+        final BigDecimal price,
+        final long quantity
+    ) {
+        this.orderId = orderId;
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    @JsonIgnore
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -1,9 +1,65 @@
 package kitchenpos.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :next"
+        + " where o.id = :id and o.status = :current and o.type in :types")
+    int changeStatus(
+        @Param("id") UUID id,
+        @Param("types") Collection<OrderType> types,
+        @Param("current") OrderStatus current,
+        @Param("next") OrderStatus next
+    );
+
+    @Query("select new kitchenpos.domain.OrderView("
+        + "o.id, o.type, o.status, o.orderDateTime, o.deliveryAddress, t.id, t.name, o.totalAmount)"
+        + " from Order o left join o.orderTable t"
+        + " where (:status is null or o.status = :status)"
+        + " and (:type is null or o.type = :type)"
+        + " and (:orderTableId is null or t.id = :orderTableId)"
+        + " and (:from is null or o.orderDateTime >= :from)"
+        + " and (:to is null or o.orderDateTime < :to)"
+        + " and (:cursorDateTime is null"
+        + " or o.orderDateTime > :cursorDateTime"
+        + " or (o.orderDateTime = :cursorDateTime and o.id > :cursorId))"
+        + " order by o.orderDateTime, o.id")
+    List<OrderView> findAllViewsAfter(
+        @Param("status") OrderStatus status,
+        @Param("type") OrderType type,
+        @Param("orderTableId") UUID orderTableId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("cursorDateTime") LocalDateTime cursorDateTime,
+        @Param("cursorId") UUID cursorId,
+        Pageable pageable
+    );
+
+    @Query("select new kitchenpos.domain.OrderLineItemView(o.id, m.id, m.name, oli.price, oli.quantity)"
+        + " from Order o join o.orderLineItems oli join oli.menu m"
+        + " where o.id in :orderIds"
+        + " order by oli.seq")
+    List<OrderLineItemView> findAllLineItemViewsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Query("select new kitchenpos.domain.OrderState(o.id, o.type, o.status, t.id)"
+        + " from Order o left join o.orderTable t"
+        + " where o.id = :id")
+    Optional<OrderState> findStateById(@Param("id") UUID id);
+
+    @Query("select new kitchenpos.domain.OrderTypeCount(o.type, count(o))"
+        + " from Order o"
+        + " where o.status in :statuses"
+        + " group by o.type")
+    List<OrderTypeCount> countAllByStatusInGroupByType(@Param("statuses") Collection<OrderStatus> statuses);
 }
@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public class OrderState {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final UUID orderTableId;
+
+    public OrderState(final UUID orderId, final OrderType type, final OrderStatus status, final UUID orderTableId) {
+        this.orderId = orderId;
+        this.type = type;
+        this.status = status;
+        this.orderTableId = orderTableId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+}
@@ -22,6 +22,9 @@ public class OrderTable {
     @Column(name = "occupied", nullable = false)
     private boolean occupied;
 
+    @Column(name = "open_order_count", nullable = false, updatable = false)
+    private int openOrderCount;
+
     public OrderTable() {
     }
 
@@ -56,4 +59,12 @@ public class OrderTable {
     public void setOccupied(final boolean occupied) {
         this.occupied = occupied;
     }
+
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final int openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
 }
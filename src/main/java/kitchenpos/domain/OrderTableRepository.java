@@ -1,8 +1,32 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, UUID> {
+    @Query("select new kitchenpos.domain.OrderTableView(t.id, t.name, t.numberOfGuests, t.occupied, t.openOrderCount)"
+        + " from OrderTable t")
+    List<OrderTableView> findAllViews();
+
+    long countByOccupied(boolean occupied);
+
+    @Modifying
+    @Query("update OrderTable t set t.openOrderCount = t.openOrderCount + 1"
+        + " where t.id = :id and t.occupied = true")
+    int increaseOpenOrderCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update OrderTable t set t.openOrderCount = t.openOrderCount - 1"
+        + " where t.id = :id and t.openOrderCount > 0")
+    int decreaseOpenOrderCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update OrderTable t set t.occupied = false, t.numberOfGuests = 0"
+        + " where t.id = :id and t.openOrderCount = 0")
+    int clearIfNoOpenOrders(@Param("id") UUID id);
 }
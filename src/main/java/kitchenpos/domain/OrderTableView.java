@@ -0,0 +1,45 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public class OrderTableView {
+    private final UUID id;
+    private final String name;
+    private final int numberOfGuests;
+    private final boolean occupied;
+    private final int openOrderCount;
+
+    public OrderTableView(
+        final UUID id,
+        final String name,
+        final int numberOfGuests,
+        final boolean occupied,
+        final int openOrderCount
+    ) {
+        this.id = id;
+        this.name = name;
+        this.numberOfGuests = numberOfGuests;
+        this.occupied = occupied;
+        this.openOrderCount = openOrderCount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public boolean isOccupied() {
+        return occupied;
+    }
+
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+}
@@ -0,0 +1,50 @@
+package kitchenpos.domain;
+
+public enum OrderTransition {
+    ACCEPT(OrderStatus.ACCEPTED) {
+        @Override
+        public OrderStatus sourceOf(final OrderType type) {
+            return OrderStatus.WAITING;
+        }
+    },
+    SERVE(OrderStatus.SERVED) {
+        @Override
+        public OrderStatus sourceOf(final OrderType type) {
+            return OrderStatus.ACCEPTED;
+        }
+    },
+    START_DELIVERY(OrderStatus.DELIVERING) {
+        @Override
+        public OrderStatus sourceOf(final OrderType type) {
+            return type == OrderType.DELIVERY ? OrderStatus.SERVED : null;
+        }
+    },
+    COMPLETE_DELIVERY(OrderStatus.DELIVERED) {
+        @Override
+        public OrderStatus sourceOf(final OrderType type) {
+            return OrderStatus.DELIVERING;
+        }
+    },
+    COMPLETE(OrderStatus.COMPLETED) {
+        @Override
+        public OrderStatus sourceOf(final OrderType type) {
+            return type == OrderType.DELIVERY ? OrderStatus.DELIVERED : OrderStatus.SERVED;
+        }
+    };
+
+    private final OrderStatus target;
+
+    OrderTransition(final OrderStatus target) {
+        this.target = target;
+    }
+
+    public abstract OrderStatus sourceOf(OrderType type);
+
+    public boolean isApplicableTo(final OrderType type, final OrderStatus status) {
+        return sourceOf(type) == status;
+    }
+
+    public OrderStatus getTarget() {
+        return target;
+    }
+}
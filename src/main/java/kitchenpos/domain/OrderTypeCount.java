@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+public class OrderTypeCount {
+    private final OrderType type;
+    private final long count;
+
+    public OrderTypeCount(final OrderType type, final long count) {
+        this.type = type;
+        this.count = count;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,79 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class OrderView {
+    private final UUID id;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final LocalDateTime orderDateTime;
+    private final String deliveryAddress;
+    private final UUID orderTableId;
+    private final String orderTableName;
+    private final BigDecimal totalAmount;
+    private List<OrderLineItemView> orderLineItems = new ArrayList<>();
+
+    public OrderView(
+        final UUID id,
+        final OrderType type,
+        final OrderStatus status,
+        final LocalDateTime orderDateTime,
+        final String deliveryAddress,
+        final UUID orderTableId,
+        final String orderTableName,
+        final BigDecimal totalAmount
+    ) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.orderDateTime = orderDateTime;
+        this.deliveryAddress = deliveryAddress;
+        this.orderTableId = orderTableId;
+        this.orderTableName = orderTableName;
+        this.totalAmount = totalAmount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public String getOrderTableName() {
+        return orderTableName;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public List<OrderLineItemView> getOrderLineItems() {
+        return orderLineItems;
+    }
+
+    public void setOrderLineItems(final List<OrderLineItemView> orderLineItems) {
+        this.orderLineItems = orderLineItems;
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public class OrdersChangedEvent {
+    private final List<OrderChangedEvent> changes;
+
+    public OrdersChangedEvent(final List<OrderChangedEvent> changes) {
+        this.changes = changes;
+    }
+
+    public List<OrderChangedEvent> getChanges() {
+        return changes;
+    }
+}
@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface ProductBulkRepository {
+    void changePrices(List<Product> products);
+}
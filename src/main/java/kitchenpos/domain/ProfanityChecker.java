@@ -0,0 +1,20 @@
+package kitchenpos.domain;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public interface ProfanityChecker {
+    boolean containsProfanity(String text);
+
+    default CompletableFuture<Boolean> containsProfanityAsync(final String text) {
+        return CompletableFuture.completedFuture(containsProfanity(text));
+    }
+
+    default Set<String> findAllContainingProfanity(final Collection<String> texts) {
+        return texts.stream()
+            .filter(this::containsProfanity)
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum SalesDimension {
+    DATE, HOUR, MENU, ORDER_TYPE
+}
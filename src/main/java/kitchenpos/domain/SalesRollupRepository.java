@@ -0,0 +1,14 @@
+package kitchenpos.domain;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalesRollupRepository {
+    void addAll(Collection<UUID> completedOrderIds);
+
+    void rebuild(LocalDate salesDate);
+
+    List<SalesSummary> summarize(LocalDate from, LocalDate to, SalesDimension dimension);
+}
@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+
+public class SalesSummary {
+    private final String key;
+    private final long orderCount;
+    private final long quantity;
+    private final BigDecimal amount;
+
+    public SalesSummary(final String key, final long orderCount, final long quantity, final BigDecimal amount) {
+        this.key = key;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.amount = amount;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,84 @@
+package kitchenpos.infra;
+
+import java.util.*;
+
+final class AhoCorasick {
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> children = new ArrayList<>();
+    private final List<List<Integer>> lengths = new ArrayList<>();
+    private final int[] failures;
+
+    AhoCorasick(final Collection<String> patterns) {
+        newNode();
+        for (final String pattern : patterns) {
+            if (!pattern.isEmpty()) {
+                insert(pattern);
+            }
+        }
+        failures = new int[children.size()];
+        linkFailures();
+    }
+
+    boolean matches(final String text, final MatchFilter filter) {
+        int state = ROOT;
+        for (int index = 0; index < text.length(); index++) {
+            state = next(state, text.charAt(index));
+            for (final int length : lengths.get(state)) {
+                if (filter.accept(index + 1 - length, index + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int newNode() {
+        children.add(new HashMap<>());
+        lengths.add(new ArrayList<>());
+        return children.size() - 1;
+    }
+
+    private void insert(final String pattern) {
+        int state = ROOT;
+        for (int index = 0; index < pattern.length(); index++) {
+            final char c = pattern.charAt(index);
+            Integer child = children.get(state).get(c);
+            if (Objects.isNull(child)) {
+                child = newNode();
+                children.get(state).put(c, child);
+            }
+            state = child;
+        }
+        lengths.get(state).add(pattern.length());
+    }
+
+    private void linkFailures() {
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final int child : children.get(ROOT).values()) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (final Map.Entry<Character, Integer> entry : children.get(state).entrySet()) {
+                final int child = entry.getValue();
+                failures[child] = next(failures[state], entry.getKey());
+                lengths.get(child).addAll(lengths.get(failures[child]));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(final int state, final char c) {
+        int current = state;
+        while (current != ROOT && !children.get(current).containsKey(c)) {
+            current = failures[current];
+        }
+        return children.get(current).getOrDefault(c, ROOT);
+    }
+
+    interface MatchFilter {
+        boolean accept(int start, int end);
+    }
+}
@@ -0,0 +1,109 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.IdempotencyRecord;
+import kitchenpos.domain.IdempotencyRecordRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JdbcIdempotencyRecordRepository implements IdempotencyRecordRepository {
+    private static final String INSERT_RESERVATION = "insert into idempotency_record "
+        + "(idempotency_key, reserved_by, created_at, expires_at) "
+        + "values (:key, :owner, :createdAt, :expiresAt)";
+    private static final String TAKE_OVER_EXPIRED = "update idempotency_record "
+        + "set request_hash = null, status_code = null, content_type = null, location = null, "
+        + "response_body = null, reserved_by = :owner, created_at = :createdAt, expires_at = :expiresAt "
+        + "where idempotency_key = :key and expires_at <= :createdAt";
+    private static final String SELECT_RECORD = "select idempotency_key, request_hash, status_code, content_type, "
+        + "location, response_body, created_at, expires_at "
+        + "from idempotency_record "
+        + "where idempotency_key = :key";
+    private static final String UPDATE_RESPONSE = "update idempotency_record "
+        + "set request_hash = :requestHash, status_code = :statusCode, content_type = :contentType, "
+        + "location = :location, response_body = :responseBody, expires_at = :expiresAt "
+        + "where idempotency_key = :key and status_code is null and reserved_by = :owner";
+    private static final String DELETE_RESERVATION = "delete from idempotency_record "
+        + "where idempotency_key = :key and status_code is null and reserved_by = :owner";
+    private static final String DELETE_EXPIRED = "delete from idempotency_record "
+        + "where expires_at <= :now";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcIdempotencyRecordRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean reserve(
+        final String key,
+        final String owner,
+        final LocalDateTime createdAt,
+        final LocalDateTime leaseExpiresAt
+    ) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("key", key)
+            .addValue("owner", owner)
+            .addValue("createdAt", Timestamp.valueOf(createdAt))
+            .addValue("expiresAt", Timestamp.valueOf(leaseExpiresAt));
+        try {
+            jdbcTemplate.update(INSERT_RESERVATION, parameters);
+            return true;
+        } catch (final DuplicateKeyException e) {
+            return jdbcTemplate.update(TAKE_OVER_EXPIRED, parameters) > 0;
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(final String key) {
+        final List<IdempotencyRecord> records = jdbcTemplate.query(
+            SELECT_RECORD,
+            new MapSqlParameterSource("key", key),
+            (rs, rowNum) -> new IdempotencyRecord(
+                rs.getString("idempotency_key"),
+                rs.getString("request_hash"),
+                (Integer) rs.getObject("status_code"),
+                rs.getString("content_type"),
+                rs.getString("location"),
+                rs.getBytes("response_body"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("expires_at").toLocalDateTime()
+            )
+        );
+        return records.stream().findFirst();
+    }
+
+    @Override
+    public void complete(final IdempotencyRecord record, final String owner) {
+        jdbcTemplate.update(
+            UPDATE_RESPONSE,
+            new MapSqlParameterSource("key", record.getKey())
+                .addValue("requestHash", record.getRequestHash())
+                .addValue("statusCode", record.getStatusCode())
+                .addValue("contentType", record.getContentType())
+                .addValue("location", record.getLocation())
+                .addValue("responseBody", record.getResponseBody())
+                .addValue("owner", owner)
+                .addValue("expiresAt", Timestamp.valueOf(record.getExpiresAt()))
+        );
+    }
+
+    @Override
+    public void release(final String key, final String owner) {
+        jdbcTemplate.update(
+            DELETE_RESERVATION,
+            new MapSqlParameterSource("key", key)
+                .addValue("owner", owner)
+        );
+    }
+
+    @Override
+    public int deleteAllExpiredBefore(final LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED, new MapSqlParameterSource("now", Timestamp.valueOf(now)));
+    }
+}
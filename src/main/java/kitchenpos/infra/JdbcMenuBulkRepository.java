@@ -0,0 +1,146 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.HiddenMenu;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuBulkRepository;
+import kitchenpos.domain.MenuProduct;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Repository
+public class JdbcMenuBulkRepository implements MenuBulkRepository {
+    private static final String INSERT_MENU = "insert into menu "
+        + "(id, displayed, name, price, component_cost, menu_group_id) "
+        + "values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MENU_PRODUCT = "insert into menu_product "
+        + "(quantity, product_id, menu_id) "
+        + "values (?, ?, ?)";
+    private static final String SELECT_MENU_IDS_BY_PRODUCT_IDS = "select distinct menu_id "
+        + "from menu_product "
+        + "where product_id in (:productIds)";
+    private static final String SELECT_MENU_IDS_WITH_STALE_COMPONENT_COST = "select m.id "
+        + "from menu m "
+        + "left join ("
+        + "select mp.menu_id, sum(p.price * mp.quantity) as component_cost "
+        + "from menu_product mp "
+        + "join product p on p.id = mp.product_id "
+        + "group by mp.menu_id"
+        + ") c on c.menu_id = m.id "
+        + "where m.component_cost <> coalesce(c.component_cost, 0) "
+        + "limit :limit";
+    private static final String UPDATE_COMPONENT_COSTS = "update menu "
+        + "set component_cost = coalesce(("
+        + "select sum(p.price * mp.quantity) "
+        + "from menu_product mp "
+        + "join product p on p.id = mp.product_id "
+        + "where mp.menu_id = menu.id"
+        + "), 0) "
+        + "where id in (:ids)";
+    private static final String SELECT_MENUS_PRICED_ABOVE_COMPONENT_COST = "select id, name, price, component_cost "
+        + "from menu "
+        + "where id in (:ids) and displayed = true and price > component_cost";
+    private static final String HIDE_MENUS = "update menu "
+        + "set displayed = false "
+        + "where id in (:ids) and displayed = true";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcMenuBulkRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final List<Menu> menus) {
+        if (menus.isEmpty()) {
+            return;
+        }
+        final List<Object[]> menuRows = new ArrayList<>();
+        final List<Object[]> menuProductRows = new ArrayList<>();
+        for (final Menu menu : menus) {
+            menuRows.add(new Object[]{
+                Uuids.toBytes(menu.getId()),
+                menu.isDisplayed(),
+                menu.getName(),
+                menu.getPrice(),
+                menu.getComponentCost(),
+                Uuids.toBytes(menu.getMenuGroup().getId())
+            });
+            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+                menuProductRows.add(new Object[]{
+                    menuProduct.getQuantity(),
+                    Uuids.toBytes(menuProduct.getProduct().getId()),
+                    Uuids.toBytes(menu.getId())
+                });
+            }
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_MENU, menuRows);
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_MENU_PRODUCT, menuProductRows);
+    }
+
+    @Override
+    public List<UUID> findAllIdsByProductIds(final Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.query(
+            SELECT_MENU_IDS_BY_PRODUCT_IDS,
+            new MapSqlParameterSource("productIds", toBytes(productIds)),
+            (resultSet, rowNum) -> Uuids.fromBytes(resultSet.getBytes("menu_id"))
+        );
+    }
+
+    @Override
+    public List<UUID> findAllIdsWithStaleComponentCost(final int limit) {
+        return jdbcTemplate.query(
+            SELECT_MENU_IDS_WITH_STALE_COMPONENT_COST,
+            new MapSqlParameterSource("limit", limit),
+            (resultSet, rowNum) -> Uuids.fromBytes(resultSet.getBytes("id"))
+        );
+    }
+
+    @Override
+    public void refreshComponentCosts(final Collection<UUID> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(UPDATE_COMPONENT_COSTS, new MapSqlParameterSource("ids", toBytes(menuIds)));
+    }
+
+    @Override
+    public List<HiddenMenu> hideAllPricedAboveComponentCost(final Collection<UUID> menuIds) {
+        if (menuIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<HiddenMenu> menus = jdbcTemplate.query(
+            SELECT_MENUS_PRICED_ABOVE_COMPONENT_COST,
+            new MapSqlParameterSource("ids", toBytes(menuIds)),
+            (resultSet, rowNum) -> new HiddenMenu(
+                Uuids.fromBytes(resultSet.getBytes("id")),
+                resultSet.getString("name"),
+                resultSet.getBigDecimal("price"),
+                resultSet.getBigDecimal("component_cost")
+            )
+        );
+        if (menus.isEmpty()) {
+            return menus;
+        }
+        jdbcTemplate.update(
+            HIDE_MENUS,
+            new MapSqlParameterSource(
+                "ids",
+                toBytes(menus.stream().map(HiddenMenu::getId).collect(Collectors.toList()))
+            )
+        );
+        return menus;
+    }
+
+    private List<byte[]> toBytes(final Collection<UUID> ids) {
+        return ids.stream()
+            .map(Uuids::toBytes)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,60 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.OrderArchiveRepository;
+import kitchenpos.domain.OrderStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JdbcOrderArchiveRepository implements OrderArchiveRepository {
+    private static final String SELECT_ARCHIVABLE_ORDER_IDS = "select id "
+        + "from orders "
+        + "where status = :completed and order_date_time < :cutoff "
+        + "order by order_date_time, id "
+        + "limit :batchSize";
+    private static final String COPY_ORDERS = "insert into orders_archive "
+        + "(id, archived_at, delivery_address, order_date_time, order_table_id, status, total_amount, type) "
+        + "select id, :archivedAt, delivery_address, order_date_time, order_table_id, status, total_amount, type "
+        + "from orders "
+        + "where id in (:ids)";
+    private static final String COPY_ORDER_LINE_ITEMS = "insert into order_line_item_archive "
+        + "(seq, menu_id, order_date_time, order_id, price, quantity) "
+        + "select oli.seq, oli.menu_id, o.order_date_time, oli.order_id, oli.price, oli.quantity "
+        + "from order_line_item oli "
+        + "join orders o on o.id = oli.order_id "
+        + "where oli.order_id in (:ids)";
+    private static final String DELETE_ORDER_LINE_ITEMS = "delete from order_line_item where order_id in (:ids)";
+    private static final String DELETE_ORDERS = "delete from orders where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOrderArchiveRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int archiveCompletedBefore(final LocalDateTime cutoff, final int batchSize) {
+        final List<byte[]> orderIds = jdbcTemplate.queryForList(
+            SELECT_ARCHIVABLE_ORDER_IDS,
+            new MapSqlParameterSource("completed", OrderStatus.COMPLETED.name())
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("batchSize", batchSize),
+            byte[].class
+        );
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", orderIds)
+            .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(COPY_ORDERS, parameters);
+        jdbcTemplate.update(COPY_ORDER_LINE_ITEMS, parameters);
+        jdbcTemplate.update(DELETE_ORDER_LINE_ITEMS, parameters);
+        jdbcTemplate.update(DELETE_ORDERS, parameters);
+        return orderIds.size();
+    }
+}
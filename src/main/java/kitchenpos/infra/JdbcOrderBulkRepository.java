@@ -0,0 +1,146 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.*;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Repository
+public class JdbcOrderBulkRepository implements OrderBulkRepository {
+    private static final String INSERT_ORDER = "insert into orders "
+        + "(id, delivery_address, order_date_time, status, type, order_table_id, total_amount) "
+        + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_LINE_ITEM = "insert into order_line_item "
+        + "(quantity, price, menu_id, order_id) "
+        + "values (?, ?, ?, ?)";
+    private static final String SELECT_ORDER_STATES_FOR_UPDATE = "select id, type, status, order_table_id "
+        + "from orders "
+        + "where id in (:ids) "
+        + "for update";
+    private static final String UPDATE_ORDER_STATUS = "update orders "
+        + "set status = :status "
+        + "where id in (:ids)";
+    private static final String INCREASE_OPEN_ORDER_COUNT = "update order_table "
+        + "set open_order_count = open_order_count + ? "
+        + "where id = ? and occupied = true";
+    private static final String DECREASE_OPEN_ORDER_COUNT = "update order_table "
+        + "set open_order_count = greatest(open_order_count - ?, 0) "
+        + "where id = ?";
+    private static final String RELEASE_ORDER_TABLES = "update order_table "
+        + "set occupied = false, number_of_guests = 0 "
+        + "where id in (:ids) and open_order_count = 0";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOrderBulkRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        final List<Object[]> orderRows = new ArrayList<>();
+        final List<Object[]> orderLineItemRows = new ArrayList<>();
+        for (final Order order : orders) {
+            orderRows.add(new Object[]{
+                Uuids.toBytes(order.getId()),
+                order.getDeliveryAddress(),
+                Timestamp.valueOf(order.getOrderDateTime()),
+                order.getStatus().name(),
+                order.getType().name(),
+                Objects.isNull(order.getOrderTable()) ? null : Uuids.toBytes(order.getOrderTable().getId()),
+                order.getTotalAmount()
+            });
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                orderLineItemRows.add(new Object[]{
+                    orderLineItem.getQuantity(),
+                    orderLineItem.getPrice(),
+                    Uuids.toBytes(orderLineItem.getMenu().getId()),
+                    Uuids.toBytes(order.getId())
+                });
+            }
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_ORDER, orderRows);
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_ORDER_LINE_ITEM, orderLineItemRows);
+    }
+
+    @Override
+    public Set<UUID> increaseOpenOrderCounts(final Map<UUID, Long> orderCounts) {
+        if (orderCounts.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final List<UUID> orderTableIds = new ArrayList<>(orderCounts.keySet());
+        final int[] updated = jdbcTemplate.getJdbcOperations().batchUpdate(
+            INCREASE_OPEN_ORDER_COUNT,
+            orderTableIds.stream()
+                .map(orderTableId -> new Object[]{orderCounts.get(orderTableId), Uuids.toBytes(orderTableId)})
+                .collect(Collectors.toList())
+        );
+        final Set<UUID> unavailable = new HashSet<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                unavailable.add(orderTableIds.get(i));
+            }
+        }
+        return unavailable;
+    }
+
+    @Override
+    public List<OrderState> findAllForUpdate(final Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.query(
+            SELECT_ORDER_STATES_FOR_UPDATE,
+            new MapSqlParameterSource("ids", toBytes(orderIds)),
+            (resultSet, rowNum) -> new OrderState(
+                Uuids.fromBytes(resultSet.getBytes("id")),
+                OrderType.valueOf(resultSet.getString("type")),
+                OrderStatus.valueOf(resultSet.getString("status")),
+                Uuids.fromBytes(resultSet.getBytes("order_table_id"))
+            )
+        );
+    }
+
+    @Override
+    public void changeStatus(final Collection<UUID> orderIds, final OrderStatus status) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+            UPDATE_ORDER_STATUS,
+            new MapSqlParameterSource("ids", toBytes(orderIds))
+                .addValue("status", status.name())
+        );
+    }
+
+    @Override
+    public void releaseOrderTables(final Map<UUID, Long> completedOrderCounts) {
+        if (completedOrderCounts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+            DECREASE_OPEN_ORDER_COUNT,
+            completedOrderCounts.entrySet()
+                .stream()
+                .map(entry -> new Object[]{entry.getValue(), Uuids.toBytes(entry.getKey())})
+                .collect(Collectors.toList())
+        );
+        jdbcTemplate.update(
+            RELEASE_ORDER_TABLES,
+            new MapSqlParameterSource("ids", toBytes(completedOrderCounts.keySet()))
+        );
+    }
+
+    private List<byte[]> toBytes(final Collection<UUID> ids) {
+        return ids.stream()
+            .map(Uuids::toBytes)
+            .collect(Collectors.toList());
+    }
+}
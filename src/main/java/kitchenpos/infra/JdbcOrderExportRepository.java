@@ -0,0 +1,85 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.OrderExportRepository;
+import kitchenpos.domain.OrderExportRow;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Repository
+public class JdbcOrderExportRepository implements OrderExportRepository {
+    private static final int FETCH_SIZE = 1_000;
+    private static final String MYSQL = "MySQL";
+    private static final String SELECT_ORDER_LINE_ITEMS = "select o.id, o.type, o.status, o.order_date_time, "
+        + "o.delivery_address, o.order_table_id, o.total_amount, oli.seq, oli.menu_id, oli.price, oli.quantity "
+        + "from orders o "
+        + "join order_line_item oli on oli.order_id = o.id "
+        + "where o.order_date_time >= ? and o.order_date_time < ? "
+        + "union all "
+        + "select o.id, o.type, o.status, o.order_date_time, "
+        + "o.delivery_address, o.order_table_id, o.total_amount, oli.seq, oli.menu_id, oli.price, oli.quantity "
+        + "from orders_archive o "
+        + "join order_line_item_archive oli on oli.order_id = o.id and oli.order_date_time = o.order_date_time "
+        + "where o.order_date_time >= ? and o.order_date_time < ? "
+        + "order by order_date_time, id, seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderExportRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachOrderLineItem(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final Consumer<OrderExportRow> consumer
+    ) {
+        jdbcTemplate.query(
+            connection -> {
+                final PreparedStatement statement = connection.prepareStatement(
+                    SELECT_ORDER_LINE_ITEMS,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSizeOf(connection));
+                statement.setTimestamp(1, Timestamp.valueOf(from));
+                statement.setTimestamp(2, Timestamp.valueOf(to));
+                statement.setTimestamp(3, Timestamp.valueOf(from));
+                statement.setTimestamp(4, Timestamp.valueOf(to));
+                return statement;
+            },
+            resultSet -> {
+                consumer.accept(new OrderExportRow(
+                    Uuids.fromBytes(resultSet.getBytes(1)),
+                    OrderType.valueOf(resultSet.getString(2)),
+                    OrderStatus.valueOf(resultSet.getString(3)),
+                    resultSet.getTimestamp(4).toLocalDateTime(),
+                    resultSet.getString(5),
+                    Uuids.fromBytes(resultSet.getBytes(6)),
+                    resultSet.getBigDecimal(7),
+                    resultSet.getLong(8),
+                    Uuids.fromBytes(resultSet.getBytes(9)),
+                    resultSet.getBigDecimal(10),
+                    resultSet.getLong(11)
+                ));
+            }
+        );
+    }
+
+    private int fetchSizeOf(final Connection connection) throws SQLException {
+        if (MYSQL.equals(connection.getMetaData().getDatabaseProductName())) {
+            return Integer.MIN_VALUE;
+        }
+        return FETCH_SIZE;
+    }
+}
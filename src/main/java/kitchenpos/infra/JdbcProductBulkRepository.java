@@ -0,0 +1,35 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductBulkRepository;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+public class JdbcProductBulkRepository implements ProductBulkRepository {
+    private static final String UPDATE_PRODUCT_PRICE = "update product "
+        + "set price = ? "
+        + "where id = ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcProductBulkRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void changePrices(final List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(
+            UPDATE_PRODUCT_PRICE,
+            products.stream()
+                .map(product -> new Object[]{product.getPrice(), Uuids.toBytes(product.getId())})
+                .collect(Collectors.toList())
+        );
+    }
+}
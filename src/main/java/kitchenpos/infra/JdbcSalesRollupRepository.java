@@ -0,0 +1,264 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.*;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Repository
+public class JdbcSalesRollupRepository implements SalesRollupRepository {
+    private static final String SELECT_ROLLUPS = "select cast(o.order_date_time as date) as sales_date, "
+        + "hour(o.order_date_time) as sales_hour, oli.menu_id, o.type as order_type, "
+        + "count(*) as order_count, sum(oli.quantity) as quantity, sum(oli.price * oli.quantity) as amount "
+        + "from orders o "
+        + "join order_line_item oli on oli.order_id = o.id "
+        + "where o.id in (:ids) "
+        + "group by cast(o.order_date_time as date), hour(o.order_date_time), oli.menu_id, o.type "
+        + "order by sales_date, sales_hour, oli.menu_id, order_type";
+    private static final String UPSERT_ROLLUP = "insert into sales_rollup "
+        + "(sales_date, sales_hour, menu_id, order_type, order_count, quantity, amount) "
+        + "values (?, ?, ?, ?, ?, ?, ?) "
+        + "on duplicate key update "
+        + "order_count = order_count + values(order_count), "
+        + "quantity = quantity + values(quantity), "
+        + "amount = amount + values(amount)";
+    private static final String SELECT_ORDER_ROLLUPS = "select cast(o.order_date_time as date) as sales_date, "
+        + "hour(o.order_date_time) as sales_hour, o.type as order_type, count(distinct o.id) as order_count "
+        + "from orders o "
+        + "where o.id in (:ids) "
+        + "group by cast(o.order_date_time as date), hour(o.order_date_time), o.type "
+        + "order by sales_date, sales_hour, order_type";
+    private static final String UPSERT_ORDER_ROLLUP = "insert into sales_order_rollup "
+        + "(sales_date, sales_hour, order_type, order_count) "
+        + "values (?, ?, ?, ?) "
+        + "on duplicate key update "
+        + "order_count = order_count + values(order_count)";
+    private static final String SELECT_DAILY_ROLLUPS = "select cast(o.order_date_time as date) as sales_date, "
+        + "oli.menu_id, o.type as order_type, "
+        + "count(*) as order_count, sum(oli.quantity) as quantity, sum(oli.price * oli.quantity) as amount "
+        + "from orders o "
+        + "join order_line_item oli on oli.order_id = o.id "
+        + "where o.id in (:ids) "
+        + "group by cast(o.order_date_time as date), oli.menu_id, o.type "
+        + "order by sales_date, oli.menu_id, order_type";
+    private static final String UPSERT_DAILY_ROLLUP = "insert into sales_daily_rollup "
+        + "(sales_date, menu_id, order_type, order_count, quantity, amount) "
+        + "values (?, ?, ?, ?, ?, ?) "
+        + "on duplicate key update "
+        + "order_count = order_count + values(order_count), "
+        + "quantity = quantity + values(quantity), "
+        + "amount = amount + values(amount)";
+    private static final String SELECT_DAILY_ORDER_ROLLUPS = "select cast(o.order_date_time as date) as sales_date, "
+        + "o.type as order_type, count(distinct o.id) as order_count "
+        + "from orders o "
+        + "where o.id in (:ids) "
+        + "group by cast(o.order_date_time as date), o.type "
+        + "order by sales_date, order_type";
+    private static final String UPSERT_DAILY_ORDER_ROLLUP = "insert into sales_daily_order_rollup "
+        + "(sales_date, order_type, order_count) "
+        + "values (?, ?, ?) "
+        + "on duplicate key update "
+        + "order_count = order_count + values(order_count)";
+    private static final String DELETE_ROLLUPS = "delete from sales_rollup where sales_date = :salesDate";
+    private static final String DELETE_ORDER_ROLLUPS = "delete from sales_order_rollup where sales_date = :salesDate";
+    private static final String DELETE_DAILY_ROLLUPS = "delete from sales_daily_rollup where sales_date = :salesDate";
+    private static final String DELETE_DAILY_ORDER_ROLLUPS = "delete from sales_daily_order_rollup where sales_date = :salesDate";
+    private static final String INSERT_ROLLUPS = "insert into sales_rollup "
+        + "(sales_date, sales_hour, menu_id, order_type, order_count, quantity, amount) "
+        + "select cast(s.order_date_time as date), hour(s.order_date_time), s.menu_id, s.type, "
+        + "count(*), sum(s.quantity), sum(s.price * s.quantity) "
+        + "from ("
+        + "select o.order_date_time, o.type, oli.menu_id, oli.price, oli.quantity "
+        + "from orders o "
+        + "join order_line_item oli on oli.order_id = o.id "
+        + "where o.status = :completed and o.order_date_time >= :from and o.order_date_time < :to "
+        + "union all "
+        + "select o.order_date_time, o.type, oli.menu_id, oli.price, oli.quantity "
+        + "from orders_archive o "
+        + "join order_line_item_archive oli on oli.order_id = o.id and oli.order_date_time = o.order_date_time "
+        + "where o.status = :completed and o.order_date_time >= :from and o.order_date_time < :to"
+        + ") s "
+        + "group by cast(s.order_date_time as date), hour(s.order_date_time), s.menu_id, s.type";
+    private static final String INSERT_ORDER_ROLLUPS = "insert into sales_order_rollup "
+        + "(sales_date, sales_hour, order_type, order_count) "
+        + "select cast(s.order_date_time as date), hour(s.order_date_time), s.type, count(*) "
+        + "from ("
+        + "select o.order_date_time, o.type "
+        + "from orders o "
+        + "where o.status = :completed and o.order_date_time >= :from and o.order_date_time < :to "
+        + "union all "
+        + "select o.order_date_time, o.type "
+        + "from orders_archive o "
+        + "where o.status = :completed and o.order_date_time >= :from and o.order_date_time < :to"
+        + ") s "
+        + "group by cast(s.order_date_time as date), hour(s.order_date_time), s.type";
+    private static final String INSERT_DAILY_ROLLUPS = "insert into sales_daily_rollup "
+        + "(sales_date, menu_id, order_type, order_count, quantity, amount) "
+        + "select sales_date, menu_id, order_type, sum(order_count), sum(quantity), sum(amount) "
+        + "from sales_rollup "
+        + "where sales_date = :salesDate "
+        + "group by sales_date, menu_id, order_type";
+    private static final String INSERT_DAILY_ORDER_ROLLUPS = "insert into sales_daily_order_rollup "
+        + "(sales_date, order_type, order_count) "
+        + "select sales_date, order_type, sum(order_count) "
+        + "from sales_order_rollup "
+        + "where sales_date = :salesDate "
+        + "group by sales_date, order_type";
+    private static final String SELECT_MENU_SUMMARIES = "select menu_id as sales_key, "
+        + "sum(order_count) as order_count, sum(quantity) as quantity, sum(amount) as amount "
+        + "from sales_daily_rollup "
+        + "where sales_date >= :from and sales_date <= :to "
+        + "group by menu_id "
+        + "order by menu_id";
+    private static final String SELECT_SUMMARIES = "select r.sales_key, "
+        + "coalesce(o.order_count, 0) as order_count, r.quantity, r.amount "
+        + "from ("
+        + "select %1$s as sales_key, sum(quantity) as quantity, sum(amount) as amount "
+        + "from %2$s "
+        + "where sales_date >= :from and sales_date <= :to "
+        + "group by %1$s"
+        + ") r "
+        + "left join ("
+        + "select %1$s as sales_key, sum(order_count) as order_count "
+        + "from %3$s "
+        + "where sales_date >= :from and sales_date <= :to "
+        + "group by %1$s"
+        + ") o on o.sales_key = r.sales_key "
+        + "order by r.sales_key";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcSalesRollupRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(final Collection<UUID> completedOrderIds) {
+        if (completedOrderIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource ids = new MapSqlParameterSource(
+            "ids",
+            completedOrderIds.stream()
+                .map(Uuids::toBytes)
+                .collect(Collectors.toList())
+        );
+        final List<Object[]> rollups = jdbcTemplate.query(
+            SELECT_ROLLUPS,
+            ids,
+            (resultSet, rowNum) -> new Object[]{
+                resultSet.getDate("sales_date"),
+                resultSet.getInt("sales_hour"),
+                resultSet.getBytes("menu_id"),
+                resultSet.getString("order_type"),
+                resultSet.getLong("order_count"),
+                resultSet.getLong("quantity"),
+                resultSet.getBigDecimal("amount")
+            }
+        );
+        jdbcTemplate.getJdbcOperations().batchUpdate(UPSERT_ROLLUP, rollups);
+        final List<Object[]> orderRollups = jdbcTemplate.query(
+            SELECT_ORDER_ROLLUPS,
+            ids,
+            (resultSet, rowNum) -> new Object[]{
+                resultSet.getDate("sales_date"),
+                resultSet.getInt("sales_hour"),
+                resultSet.getString("order_type"),
+                resultSet.getLong("order_count")
+            }
+        );
+        jdbcTemplate.getJdbcOperations().batchUpdate(UPSERT_ORDER_ROLLUP, orderRollups);
+        final List<Object[]> dailyRollups = jdbcTemplate.query(
+            SELECT_DAILY_ROLLUPS,
+            ids,
+            (resultSet, rowNum) -> new Object[]{
+                resultSet.getDate("sales_date"),
+                resultSet.getBytes("menu_id"),
+                resultSet.getString("order_type"),
+                resultSet.getLong("order_count"),
+                resultSet.getLong("quantity"),
+                resultSet.getBigDecimal("amount")
+            }
+        );
+        jdbcTemplate.getJdbcOperations().batchUpdate(UPSERT_DAILY_ROLLUP, dailyRollups);
+        final List<Object[]> dailyOrderRollups = jdbcTemplate.query(
+            SELECT_DAILY_ORDER_ROLLUPS,
+            ids,
+            (resultSet, rowNum) -> new Object[]{
+                resultSet.getDate("sales_date"),
+                resultSet.getString("order_type"),
+                resultSet.getLong("order_count")
+            }
+        );
+        jdbcTemplate.getJdbcOperations().batchUpdate(UPSERT_DAILY_ORDER_ROLLUP, dailyOrderRollups);
+    }
+
+    @Override
+    public void rebuild(final LocalDate salesDate) {
+        final MapSqlParameterSource date = new MapSqlParameterSource("salesDate", Date.valueOf(salesDate));
+        jdbcTemplate.update(DELETE_ROLLUPS, date);
+        jdbcTemplate.update(DELETE_ORDER_ROLLUPS, date);
+        jdbcTemplate.update(DELETE_DAILY_ROLLUPS, date);
+        jdbcTemplate.update(DELETE_DAILY_ORDER_ROLLUPS, date);
+        final MapSqlParameterSource range = new MapSqlParameterSource("completed", OrderStatus.COMPLETED.name())
+            .addValue("from", Timestamp.valueOf(salesDate.atStartOfDay()))
+            .addValue("to", Timestamp.valueOf(salesDate.plusDays(1).atStartOfDay()));
+        jdbcTemplate.update(INSERT_ROLLUPS, range);
+        jdbcTemplate.update(INSERT_ORDER_ROLLUPS, range);
+        jdbcTemplate.update(INSERT_DAILY_ROLLUPS, date);
+        jdbcTemplate.update(INSERT_DAILY_ORDER_ROLLUPS, date);
+    }
+
+    @Override
+    public List<SalesSummary> summarize(final LocalDate from, final LocalDate to, final SalesDimension dimension) {
+        final String sql = dimension == SalesDimension.MENU
+            ? SELECT_MENU_SUMMARIES
+            : summariesOf(dimension);
+        return jdbcTemplate.query(
+            sql,
+            new MapSqlParameterSource("from", Date.valueOf(from))
+                .addValue("to", Date.valueOf(to)),
+            (resultSet, rowNum) -> new SalesSummary(
+                keyOf(resultSet, dimension),
+                resultSet.getLong("order_count"),
+                resultSet.getLong("quantity"),
+                resultSet.getBigDecimal("amount")
+            )
+        );
+    }
+
+    private String summariesOf(final SalesDimension dimension) {
+        if (dimension == SalesDimension.HOUR) {
+            return String.format(SELECT_SUMMARIES, columnOf(dimension), "sales_rollup", "sales_order_rollup");
+        }
+        return String.format(SELECT_SUMMARIES, columnOf(dimension), "sales_daily_rollup", "sales_daily_order_rollup");
+    }
+
+    private String columnOf(final SalesDimension dimension) {
+        switch (dimension) {
+            case DATE:
+                return "sales_date";
+            case HOUR:
+                return "sales_hour";
+            case ORDER_TYPE:
+                return "order_type";
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private String keyOf(final ResultSet resultSet, final SalesDimension dimension) throws SQLException {
+        if (dimension == SalesDimension.MENU) {
+            return String.valueOf(Uuids.fromBytes(resultSet.getBytes("sales_key")));
+        }
+        return resultSet.getString("sales_key");
+    }
+}
@@ -1,12 +1,48 @@
 package kitchenpos.infra;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 public class KitchenridersClient {
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+
+    public KitchenridersClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        @Value("${kitchenpos.kitchenriders.base-url:}") final String baseUrl,
+        @Value("${kitchenpos.kitchenriders.connect-timeout:500ms}") final Duration connectTimeout,
+        @Value("${kitchenpos.kitchenriders.read-timeout:2s}") final Duration readTimeout
+    ) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(connectTimeout)
+            .setReadTimeout(readTimeout)
+            .build();
+        this.baseUrl = baseUrl;
+    }
+
     public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        if (baseUrl.isEmpty()) {
+            return;
+        }
+        final URI url = UriComponentsBuilder.fromUriString(baseUrl)
+            .path("/api/deliveries")
+            .build()
+            .toUri();
+        final Map<String, Object> request = new LinkedHashMap<>();
+        request.put("orderId", orderId);
+        request.put("amount", amount);
+        request.put("deliveryAddress", deliveryAddress);
+        restTemplate.postForEntity(url, request, Void.class);
     }
 }
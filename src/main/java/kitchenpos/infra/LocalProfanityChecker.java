@@ -0,0 +1,173 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.ProfanityChecker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+
+@ConditionalOnProperty(name = "kitchenpos.profanity.engine", havingValue = "local", matchIfMissing = true)
+@Component
+public class LocalProfanityChecker implements ProfanityChecker {
+    private static final String LEET_FROM = "0134578@$!|+";
+    private static final String LEET_TO = "oieastbasiit";
+    private static final String COMMENT_PREFIX = "#";
+    private static final int SHORT_HANGUL_SYLLABLES = 2;
+
+    private final AhoCorasick latinMatcher;
+    private final AhoCorasick hangulMatcher;
+    private final AhoCorasick shortHangulMatcher;
+
+    public LocalProfanityChecker(
+        @Value("${kitchenpos.profanity.words:classpath:profanity/words.txt}") final Resource words
+    ) {
+        final List<String> latinWords = new ArrayList<>();
+        final List<String> hangulWords = new ArrayList<>();
+        final List<String> shortHangulWords = new ArrayList<>();
+        for (final String word : readWords(words)) {
+            final String hangul = normalizeHangul(word, null);
+            if (hangul.isEmpty()) {
+                latinWords.add(normalizeLatin(word, null));
+                continue;
+            }
+            if (countHangulSyllables(word) <= SHORT_HANGUL_SYLLABLES) {
+                shortHangulWords.add(hangul);
+                continue;
+            }
+            hangulWords.add(hangul);
+        }
+        this.latinMatcher = new AhoCorasick(latinWords);
+        this.hangulMatcher = new AhoCorasick(hangulWords);
+        this.shortHangulMatcher = new AhoCorasick(shortHangulWords);
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        if (Objects.isNull(text) || text.isEmpty()) {
+            return false;
+        }
+        final BitSet wordStarts = new BitSet();
+        final String hangul = normalizeHangul(text, wordStarts);
+        if (hangulMatcher.matches(hangul, (start, end) -> true)) {
+            return true;
+        }
+        if (shortHangulMatcher.matches(hangul, (start, end) -> wordStarts.get(start))) {
+            return true;
+        }
+        final BitSet boundaries = new BitSet();
+        final String latin = normalizeLatin(text, boundaries);
+        return latinMatcher.matches(latin, (start, end) -> boundaries.get(start) && boundaries.get(end));
+    }
+
+    private static List<String> readWords(final Resource resource) {
+        final List<String> words = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            String line;
+            while (!Objects.isNull(line = reader.readLine())) {
+                final String word = line.trim();
+                if (!word.isEmpty() && !word.startsWith(COMMENT_PREFIX)) {
+                    words.add(word);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static String normalizeHangul(final String text, final BitSet wordStarts) {
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        final StringBuilder builder = new StringBuilder(decomposed.length());
+        boolean wordStart = true;
+        for (int index = 0; index < decomposed.length(); index++) {
+            final char c = decomposed.charAt(index);
+            if (Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL) {
+                if (wordStart && !Objects.isNull(wordStarts)) {
+                    wordStarts.set(builder.length());
+                }
+                builder.append(c);
+                wordStart = false;
+                continue;
+            }
+            if (Character.isWhitespace(c) || Character.isLetterOrDigit(c)) {
+                wordStart = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int countHangulSyllables(final String word) {
+        final String composed = Normalizer.normalize(word, Normalizer.Form.NFKC);
+        int count = 0;
+        for (int index = 0; index < composed.length(); index++) {
+            if (Character.UnicodeScript.of(composed.charAt(index)) == Character.UnicodeScript.HANGUL) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String normalizeLatin(final String text, final BitSet boundaries) {
+        final String folded = unleet(
+            Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .toLowerCase(Locale.ROOT)
+        );
+        final StringBuilder builder = new StringBuilder(folded.length());
+        boolean boundary = true;
+        for (int index = 0; index < folded.length(); index++) {
+            final char c = folded.charAt(index);
+            if (c >= 'a' && c <= 'z') {
+                if (boundary && !Objects.isNull(boundaries)) {
+                    boundaries.set(builder.length());
+                }
+                builder.append(c);
+                boundary = false;
+                continue;
+            }
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                boundary = true;
+            }
+        }
+        if (!Objects.isNull(boundaries)) {
+            boundaries.set(builder.length());
+        }
+        return builder.toString();
+    }
+
+    private static String unleet(final String text) {
+        final StringBuilder builder = new StringBuilder(text);
+        int index = 0;
+        while (index < text.length()) {
+            if (!isLeet(text.charAt(index))) {
+                index++;
+                continue;
+            }
+            final int start = index;
+            while (index < text.length() && isLeet(text.charAt(index))) {
+                index++;
+            }
+            if (start == 0 || index == text.length()
+                || !Character.isLetter(text.charAt(start - 1)) || !Character.isLetter(text.charAt(index))) {
+                continue;
+            }
+            for (int leet = start; leet < index; leet++) {
+                builder.setCharAt(leet, LEET_TO.charAt(LEET_FROM.indexOf(text.charAt(leet))));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isLeet(final char c) {
+        return LEET_FROM.indexOf(c) >= 0;
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@ConditionalOnProperty(name = "kitchenpos.metrics.enabled", havingValue = "true", matchIfMissing = true)
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfiguration {
+    @Bean
+    public TimedServiceAspect timedServiceAspect(final MeterRegistry meterRegistry) {
+        return new TimedServiceAspect(meterRegistry);
+    }
+}
@@ -1,25 +1,209 @@
 package kitchenpos.infra;
 
+import kitchenpos.domain.ProfanityChecker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
+import javax.annotation.PreDestroy;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@ConditionalOnProperty(name = "kitchenpos.profanity.engine", havingValue = "remote")
 @Component
-public class PurgomalumClient {
+public class PurgomalumClient implements ProfanityChecker {
+    private static final String SEPARATOR = " , ";
+    private static final int MAX_ENCODED_TEXT_LENGTH = 1_500;
+
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final ExecutorService executorService;
+    private final Map<String, CacheEntry> cache;
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final Duration cacheTtl;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openUntilMillis;
 
-    public PurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    public PurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        @Value("${kitchenpos.profanity.remote.base-url:https://www.purgomalum.com}") final String baseUrl,
+        @Value("${kitchenpos.profanity.remote.connect-timeout:500ms}") final Duration connectTimeout,
+        @Value("${kitchenpos.profanity.remote.read-timeout:2s}") final Duration readTimeout,
+        @Value("${kitchenpos.profanity.remote.concurrency:8}") final int concurrency,
+        @Value("${kitchenpos.profanity.remote.cache-size:10000}") final int cacheSize,
+        @Value("${kitchenpos.profanity.remote.cache-ttl:1h}") final Duration cacheTtl,
+        @Value("${kitchenpos.profanity.remote.failure-threshold:5}") final int failureThreshold,
+        @Value("${kitchenpos.profanity.remote.open-duration:30s}") final Duration openDuration
+    ) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(connectTimeout)
+            .setReadTimeout(readTimeout)
+            .build();
+        this.baseUrl = baseUrl;
+        this.executorService = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "purgomalum");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.cacheTtl = cacheTtl;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
     }
 
+    @Override
     public boolean containsProfanity(final String text) {
-        final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
+        try {
+            return containsProfanityAsync(text).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsProfanityAsync(final String text) {
+        if (Objects.isNull(text)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final String key = normalize(text);
+        final CacheEntry cached = cache.get(key);
+        if (!Objects.isNull(cached) && cached.expiresAtMillis > System.currentTimeMillis()) {
+            return CompletableFuture.completedFuture(cached.profane);
+        }
+        final CompletableFuture<Boolean> created = new CompletableFuture<>();
+        final CompletableFuture<Boolean> existing = inFlight.putIfAbsent(key, created);
+        if (!Objects.isNull(existing)) {
+            return existing;
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    final boolean profane = fetch(key);
+                    cache.put(key, new CacheEntry(profane, System.currentTimeMillis() + cacheTtl.toMillis()));
+                    created.complete(profane);
+                } catch (final RuntimeException e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    @Override
+    public Set<String> findAllContainingProfanity(final Collection<String> texts) {
+        final Set<String> profaneTexts = new HashSet<>();
+        for (final List<String> chunk : chunk(new ArrayList<>(new LinkedHashSet<>(texts)))) {
+            collectProfane(chunk, profaneTexts);
+        }
+        return profaneTexts;
+    }
+
+    @PreDestroy
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    private boolean fetch(final String text) {
+        if (System.currentTimeMillis() < openUntilMillis) {
+            throw new IllegalStateException();
+        }
+        final URI url = UriComponentsBuilder.fromUriString(baseUrl)
+            .path("/service/containsprofanity")
             .queryParam("text", text)
             .build()
+            .encode()
             .toUri();
-        return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+        try {
+            final boolean profane = Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+            consecutiveFailures.set(0);
+            openUntilMillis = 0;
+            return profane;
+        } catch (final RestClientException e) {
+            if (openUntilMillis != 0 || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                openUntilMillis = System.currentTimeMillis() + openDuration.toMillis();
+                consecutiveFailures.set(0);
+            }
+            throw e;
+        }
+    }
+
+    private void collectProfane(final List<String> texts, final Set<String> profaneTexts) {
+        if (!containsProfanity(String.join(SEPARATOR, texts))) {
+            return;
+        }
+        if (texts.size() == 1) {
+            profaneTexts.add(texts.get(0));
+            return;
+        }
+        final int middle = texts.size() / 2;
+        collectProfane(texts.subList(0, middle), profaneTexts);
+        collectProfane(texts.subList(middle, texts.size()), profaneTexts);
+    }
+
+    private List<List<String>> chunk(final List<String> texts) {
+        final List<List<String>> chunks = new ArrayList<>();
+        final int separatorLength = encodedLength(SEPARATOR);
+        List<String> current = new ArrayList<>();
+        int length = 0;
+        for (final String text : texts) {
+            final int textLength = encodedLength(normalize(text));
+            if (!current.isEmpty() && length + separatorLength + textLength > MAX_ENCODED_TEXT_LENGTH) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                length = 0;
+            }
+            length += (current.isEmpty() ? 0 : separatorLength) + textLength;
+            current.add(text);
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static int encodedLength(final String text) {
+        return UriUtils.encodeQueryParam(text, StandardCharsets.UTF_8).length();
+    }
+
+    private static String normalize(final String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .trim()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static class CacheEntry {
+        private final boolean profane;
+        private final long expiresAtMillis;
+
+        private CacheEntry(final boolean profane, final long expiresAtMillis) {
+            this.profane = profane;
+            this.expiresAtMillis = expiresAtMillis;
+        }
     }
 }
@@ -0,0 +1,126 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Objects;
+
+@ConditionalOnProperty(name = "kitchenpos.metrics.statement-counting.enabled", havingValue = "true")
+@Component
+public class StatementCounter implements BeanPostProcessor {
+    private static final String SELECT = "select";
+
+    private final ThreadLocal<Counts> counts = new ThreadLocal<>();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+
+    public void start() {
+        counts.set(new Counts());
+    }
+
+    public Counts stop() {
+        final Counts count = counts.get();
+        counts.remove();
+        return Objects.isNull(count) ? new Counts() : count;
+    }
+
+    private void record(final String sql) {
+        final Counts count = counts.get();
+        if (Objects.isNull(count)) {
+            return;
+        }
+        count.statements++;
+        if (!Objects.isNull(sql) && sql.stripLeading().regionMatches(true, 0, SELECT, 0, SELECT.length())) {
+            count.selects++;
+        }
+    }
+
+    private Connection countingConnection(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            StatementCounter.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                final Object result = invoke(connection, method, args);
+                if (result instanceof Statement) {
+                    final String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                    return countingStatement((Statement) result, sql);
+                }
+                return result;
+            }
+        );
+    }
+
+    private Statement countingStatement(final Statement statement, final String sql) {
+        return (Statement) Proxy.newProxyInstance(
+            StatementCounter.class.getClassLoader(),
+            new Class<?>[]{statementType(statement)},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    final boolean inline = !Objects.isNull(args) && args.length > 0 && args[0] instanceof String;
+                    record(inline ? (String) args[0] : sql);
+                }
+                return invoke(statement, method, args);
+            }
+        );
+    }
+
+    private static Class<?> statementType(final Statement statement) {
+        if (statement instanceof CallableStatement) {
+            return CallableStatement.class;
+        }
+        if (statement instanceof PreparedStatement) {
+            return PreparedStatement.class;
+        }
+        return Statement.class;
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class CountingDataSource extends DelegatingDataSource {
+        private CountingDataSource(final DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+    }
+
+    public static class Counts {
+        private int statements;
+        private int selects;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getSelects() {
+            return selects;
+        }
+    }
+}
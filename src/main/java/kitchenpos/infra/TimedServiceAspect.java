@@ -0,0 +1,42 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class TimedServiceAspect {
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedServiceAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(timed) && execution(public * *(..))")
+    public Object time(final ProceedingJoinPoint joinPoint, final Timed timed) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            final Signature signature = joinPoint.getStaticPart().getSignature();
+            sample.stop(Timer.builder(timed.value())
+                .tags(timed.extraTags())
+                .tag("class", signature.getDeclaringTypeName())
+                .tag("method", signature.getName())
+                .tag("exception", exception)
+                .publishPercentileHistogram(timed.histogram())
+                .publishPercentiles(timed.percentiles().length == 0 ? null : timed.percentiles())
+                .register(meterRegistry));
+        }
+    }
+}
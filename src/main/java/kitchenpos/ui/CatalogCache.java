@@ -0,0 +1,107 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.domain.CatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class CatalogCache {
+    private final AtomicLong version = new AtomicLong();
+    private final Entry menus;
+    private final Entry menuGroups;
+
+    public CatalogCache(
+        final MenuService menuService,
+        final MenuGroupService menuGroupService,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.catalog.max-age:30s}") final Duration maxAge
+    ) {
+        this.menus = new Entry(menuService::findAll, objectMapper, maxAge);
+        this.menuGroups = new Entry(menuGroupService::findAll, objectMapper, maxAge);
+    }
+
+    public Snapshot menus() {
+        return menus.get(version.get());
+    }
+
+    public Snapshot menuGroups() {
+        return menuGroups.get(version.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(final CatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    public static class Snapshot {
+        private final long version;
+        private final Instant createdAt;
+        private final byte[] body;
+        private final String eTag;
+
+        private Snapshot(final long version, final Instant createdAt, final byte[] body) {
+            this.version = version;
+            this.createdAt = createdAt;
+            this.body = body;
+            this.eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    private static class Entry {
+        private final Supplier<?> loader;
+        private final ObjectMapper objectMapper;
+        private final Duration maxAge;
+        private volatile Snapshot snapshot;
+
+        private Entry(final Supplier<?> loader, final ObjectMapper objectMapper, final Duration maxAge) {
+            this.loader = loader;
+            this.objectMapper = objectMapper;
+            this.maxAge = maxAge;
+        }
+
+        private Snapshot get(final long version) {
+            final Snapshot current = snapshot;
+            if (isFresh(current, version)) {
+                return current;
+            }
+            synchronized (this) {
+                if (isFresh(snapshot, version)) {
+                    return snapshot;
+                }
+                try {
+                    final Snapshot loaded = new Snapshot(version, Instant.now(), objectMapper.writeValueAsBytes(loader.get()));
+                    snapshot = loaded;
+                    return loaded;
+                } catch (final JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        private boolean isFresh(final Snapshot snapshot, final long version) {
+            return !Objects.isNull(snapshot)
+                && snapshot.version == version
+                && snapshot.createdAt.plus(maxAge).isAfter(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package kitchenpos.ui;
+
+import kitchenpos.domain.IdempotencyRecord;
+import kitchenpos.domain.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> METHODS = Set.of(HttpMethod.POST.name(), HttpMethod.PUT.name());
+    private static final List<String> PATTERNS = List.of("/api/orders", "/api/orders/**");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Map<String, IdempotencyRecord> cache;
+    private final Duration ttl;
+    private final Duration lease;
+
+    public IdempotencyFilter(
+        final IdempotencyRecordRepository idempotencyRecordRepository,
+        @Value("${kitchenpos.idempotency.ttl:24h}") final Duration ttl,
+        @Value("${kitchenpos.idempotency.lease:30s}") final Duration lease,
+        @Value("${kitchenpos.idempotency.cache-size:10000}") final int cacheSize
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        if (Objects.isNull(request.getHeader(IDEMPOTENCY_KEY_HEADER)) || !METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PATTERNS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        final String key = sha256(request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey);
+        final byte[] body = request.getInputStream().readAllBytes();
+        final String requestHash = sha256(body);
+        final LocalDateTime now = LocalDateTime.now();
+        final String owner = UUID.randomUUID().toString();
+        final IdempotencyRecord cached = cache.get(key);
+        if (!Objects.isNull(cached) && !cached.isExpired(now)) {
+            replay(cached, requestHash, response);
+            return;
+        }
+        if (!idempotencyRecordRepository.reserve(key, owner, now, now.plus(lease))) {
+            final Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findByKey(key)
+                .filter(record -> !record.isExpired(now));
+            if (stored.isPresent() && stored.get().isCompleted()) {
+                cache.put(key, stored.get());
+                replay(stored.get(), requestHash, response);
+                return;
+            }
+            response.sendError(HttpStatus.CONFLICT.value());
+            return;
+        }
+        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequestWrapper(request, body), responseWrapper);
+            if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                final IdempotencyRecord record = new IdempotencyRecord(
+                    key,
+                    requestHash,
+                    responseWrapper.getStatus(),
+                    responseWrapper.getContentType(),
+                    responseWrapper.getHeader(HttpHeaders.LOCATION),
+                    responseWrapper.getContentAsByteArray(),
+                    now,
+                    now.plus(ttl)
+                );
+                idempotencyRecordRepository.complete(record, owner);
+                cache.put(key, record);
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyRecordRepository.release(key, owner);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.idempotency.purge-interval:PT10M}")
+    public void purge() {
+        final LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.deleteAllExpiredBefore(now);
+        synchronized (cache) {
+            cache.values().removeIf(record -> record.isExpired(now));
+        }
+    }
+
+    private void replay(
+        final IdempotencyRecord record,
+        final String requestHash,
+        final HttpServletResponse response
+    ) throws IOException {
+        if (!Objects.equals(record.getRequestHash(), requestHash)) {
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            return;
+        }
+        response.setStatus(record.getStatusCode());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        if (!Objects.isNull(record.getLocation())) {
+            response.setHeader(HttpHeaders.LOCATION, record.getLocation());
+        }
+        if (!Objects.isNull(record.getContentType())) {
+            response.setContentType(record.getContentType());
+        }
+        final byte[] body = Objects.isNull(record.getResponseBody()) ? new byte[0] : record.getResponseBody();
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String sha256(final String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(final byte[] value) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+            final StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequestWrapper(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), charsetOf(getCharacterEncoding())));
+        }
+
+        private static Charset charsetOf(final String encoding) {
+            return Objects.isNull(encoding) ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        }
+    }
+}
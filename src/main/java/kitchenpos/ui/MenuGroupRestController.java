@@ -2,19 +2,23 @@ package kitchenpos.ui;
 
 import kitchenpos.application.MenuGroupService;
 import kitchenpos.domain.MenuGroup;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
-import java.util.List;
 
 @RequestMapping("/api/menu-groups")
 @RestController
 public class MenuGroupRestController {
     private final MenuGroupService menuGroupService;
+    private final CatalogCache catalogCache;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(final MenuGroupService menuGroupService, final CatalogCache catalogCache) {
         this.menuGroupService = menuGroupService;
+        this.catalogCache = catalogCache;
     }
 
     @PostMapping
@@ -25,7 +29,15 @@ public class MenuGroupRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuGroup>> findAll() {
-        return ResponseEntity.ok(menuGroupService.findAll());
+    public ResponseEntity<byte[]> findAll(final WebRequest webRequest) {
+        final CatalogCache.Snapshot snapshot = catalogCache.menuGroups();
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(snapshot.getETag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.getBody());
     }
 }
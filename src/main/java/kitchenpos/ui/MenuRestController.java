@@ -1,9 +1,16 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.BulkResult;
+import kitchenpos.application.MenuSearchCondition;
+import kitchenpos.application.MenuSearchIndex;
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuView;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -13,9 +20,17 @@ import java.util.UUID;
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final CatalogCache catalogCache;
+    private final MenuSearchIndex menuSearchIndex;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+        final MenuService menuService,
+        final CatalogCache catalogCache,
+        final MenuSearchIndex menuSearchIndex
+    ) {
         this.menuService = menuService;
+        this.catalogCache = catalogCache;
+        this.menuSearchIndex = menuSearchIndex;
     }
 
     @PostMapping
@@ -25,6 +40,11 @@ public class MenuRestController {
             .body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BulkResult>> createAll(@RequestBody final List<Menu> requests) {
+        return ResponseEntity.ok(menuService.createAll(requests));
+    }
+
     @PutMapping("/{menuId}/price")
     public ResponseEntity<Menu> changePrice(@PathVariable final UUID menuId, @RequestBody final Menu request) {
         return ResponseEntity.ok(menuService.changePrice(menuId, request));
@@ -41,7 +61,20 @@ public class MenuRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Menu>> findAll() {
-        return ResponseEntity.ok(menuService.findAll());
+    public ResponseEntity<byte[]> findAll(final WebRequest webRequest) {
+        final CatalogCache.Snapshot snapshot = catalogCache.menus();
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(snapshot.getETag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.getBody());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<MenuView>> search(final MenuSearchCondition condition) {
+        return ResponseEntity.ok(menuSearchIndex.search(condition));
     }
 }
@@ -0,0 +1,146 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.domain.OrderChangedEvent;
+import kitchenpos.domain.OrdersChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class OrderBoard {
+    private static final String EVENT_NAME = "order";
+    private static final String BATCH_EVENT_NAME = "orders";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberIndex = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final int queueCapacity;
+
+    public OrderBoard(
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.order-board.timeout:30m}") final Duration timeout,
+        @Value("${kitchenpos.order-board.send-timeout:10s}") final Duration sendTimeout,
+        @Value("${kitchenpos.order-board.queue-capacity:256}") final int queueCapacity
+    ) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(final SseEmitter emitter) {
+        final Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        final Thread thread = new Thread(() -> drain(subscriber), "order-board-" + subscriberIndex.incrementAndGet());
+        thread.setDaemon(true);
+        subscriber.thread = thread;
+        emitter.onCompletion(() -> disconnect(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber));
+        emitter.onError(e -> disconnect(subscriber));
+        subscribers.add(subscriber);
+        thread.start();
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onOrderChanged(final OrderChangedEvent event) throws JsonProcessingException {
+        final String data = objectMapper.writeValueAsString(event);
+        for (final Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event()
+                .id(event.getOrderId() + ":" + event.getStatus())
+                .name(EVENT_NAME)
+                .data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onOrdersChanged(final OrdersChangedEvent event) throws JsonProcessingException {
+        final String data = objectMapper.writeValueAsString(event.getChanges());
+        for (final Subscriber subscriber : subscribers) {
+            enqueue(subscriber, SseEmitter.event()
+                .name(BATCH_EVENT_NAME)
+                .data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order-board.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        final long now = System.nanoTime();
+        for (final Subscriber subscriber : subscribers) {
+            final long sendStartedAt = subscriber.sendStartedAt;
+            if (sendStartedAt != 0 && now - sendStartedAt > sendTimeout.toNanos()) {
+                disconnect(subscriber);
+                continue;
+            }
+            if (subscriber.queue.isEmpty()) {
+                enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(this::disconnect);
+    }
+
+    private void enqueue(final Subscriber subscriber, final SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            disconnect(subscriber);
+        }
+    }
+
+    private void disconnect(final Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.thread.interrupt();
+        }
+    }
+
+    private void drain(final Subscriber subscriber) {
+        try {
+            while (subscribers.contains(subscriber)) {
+                final SseEmitter.SseEventBuilder event = subscriber.queue.take();
+                subscriber.sendStartedAt = System.nanoTime();
+                subscriber.emitter.send(event);
+                subscriber.sendStartedAt = 0;
+            }
+            subscriber.emitter.complete();
+        } catch (final InterruptedException e) {
+            subscriber.emitter.complete();
+        } catch (final IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+        } finally {
+            subscriber.queue.clear();
+        }
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private Thread thread;
+        private volatile long sendStartedAt;
+
+        private Subscriber(final SseEmitter emitter, final int queueCapacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
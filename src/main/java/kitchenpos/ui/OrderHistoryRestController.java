@@ -0,0 +1,33 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderHistoryService;
+import kitchenpos.domain.ArchivedOrder;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequestMapping("/api/order-history")
+@RestController
+public class OrderHistoryRestController {
+    private final OrderHistoryService orderHistoryService;
+
+    public OrderHistoryRestController(final OrderHistoryService orderHistoryService) {
+        this.orderHistoryService = orderHistoryService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchivedOrder>> findAll(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(defaultValue = "0") final int page,
+        @RequestParam(defaultValue = "50") final int size
+    ) {
+        return ResponseEntity.ok(orderHistoryService.findAll(from, to, page, size).getContent());
+    }
+}
@@ -1,21 +1,49 @@
 package kitchenpos.ui;
 
-import kitchenpos.application.OrderService;
+import kitchenpos.application.*;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderState;
+import kitchenpos.domain.OrderView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
+    private static final String NEXT_CURSOR_HEADER = "Next-Cursor";
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderBoard orderBoard;
+    private final Duration exportTimeout;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderExportService orderExportService,
+        final OrderBoard orderBoard,
+        @Value("${kitchenpos.export.timeout:30m}") final Duration exportTimeout
+    ) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderBoard = orderBoard;
+        this.exportTimeout = exportTimeout;
     }
 
     @PostMapping
@@ -25,33 +53,73 @@ public class OrderRestController {
             .body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BulkResult>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(orderService.createAll(requests));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate date,
+        @RequestParam(defaultValue = "NDJSON") final OrderExportFormat format,
+        final HttpServletRequest request,
+        final HttpServletResponse response
+    ) {
+        final StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, response);
+        asyncWebRequest.setTimeout(exportTimeout.toMillis());
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"orders-" + date + "." + format.getExtension() + "\""
+            )
+            .body(outputStream -> orderExportService.export(date, format, outputStream));
+    }
+
+    @GetMapping(value = "/board", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter board() {
+        return orderBoard.subscribe();
+    }
+
+    @PutMapping("/transitions")
+    public ResponseEntity<List<BulkResult>> transitionAll(@RequestBody final OrderTransitionRequest request) {
+        return ResponseEntity.ok(orderService.transitionAll(request));
+    }
+
     @PutMapping("/{orderId}/accept")
-    public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
+    public ResponseEntity<OrderState> accept(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.accept(orderId));
     }
 
     @PutMapping("/{orderId}/serve")
-    public ResponseEntity<Order> serve(@PathVariable final UUID orderId) {
+    public ResponseEntity<OrderState> serve(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.serve(orderId));
     }
 
     @PutMapping("/{orderId}/start-delivery")
-    public ResponseEntity<Order> startDelivery(@PathVariable final UUID orderId) {
+    public ResponseEntity<OrderState> startDelivery(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.startDelivery(orderId));
     }
 
     @PutMapping("/{orderId}/complete-delivery")
-    public ResponseEntity<Order> completeDelivery(@PathVariable final UUID orderId) {
+    public ResponseEntity<OrderState> completeDelivery(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.completeDelivery(orderId));
     }
 
     @PutMapping("/{orderId}/complete")
-    public ResponseEntity<Order> complete(@PathVariable final UUID orderId) {
+    public ResponseEntity<OrderState> complete(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.complete(orderId));
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<OrderView>> findAll(final OrderSearchCondition condition) {
+        final Slice<OrderView> orders = orderService.findAll(condition);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (orders.hasNext()) {
+            final List<OrderView> content = orders.getContent();
+            response.header(NEXT_CURSOR_HEADER, OrderCursor.of(content.get(content.size() - 1)).encode());
+        }
+        return response.body(orders.getContent());
     }
 }
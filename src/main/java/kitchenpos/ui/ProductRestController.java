@@ -1,10 +1,16 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.ProductPriceChangeResult;
+import kitchenpos.application.ProductPriceFormat;
+import kitchenpos.application.ProductPriceImportService;
 import kitchenpos.application.ProductService;
 import kitchenpos.domain.Product;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -13,9 +19,14 @@ import java.util.UUID;
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final ProductPriceImportService productPriceImportService;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+        final ProductService productService,
+        final ProductPriceImportService productPriceImportService
+    ) {
         this.productService = productService;
+        this.productPriceImportService = productPriceImportService;
     }
 
     @PostMapping
@@ -30,6 +41,16 @@ public class ProductRestController {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
+    @PostMapping(value = "/prices", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProductPriceChangeResult> changePricesFromJson(final HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(productPriceImportService.importPrices(request.getInputStream(), ProductPriceFormat.JSON));
+    }
+
+    @PostMapping(value = "/prices", consumes = "text/csv")
+    public ResponseEntity<ProductPriceChangeResult> changePricesFromCsv(final HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(productPriceImportService.importPrices(request.getInputStream(), ProductPriceFormat.CSV));
+    }
+
     @GetMapping
     public ResponseEntity<List<Product>> findAll() {
         return ResponseEntity.ok(productService.findAll());
@@ -0,0 +1,39 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SalesReportService;
+import kitchenpos.domain.SalesDimension;
+import kitchenpos.domain.SalesSummary;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequestMapping("/api/reports/sales")
+@RestController
+public class SalesReportRestController {
+    private final SalesReportService salesReportService;
+
+    public SalesReportRestController(final SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SalesSummary>> summarize(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+        @RequestParam(defaultValue = "MENU") final SalesDimension groupBy
+    ) {
+        return ResponseEntity.ok(salesReportService.summarize(from, to, groupBy));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to
+    ) {
+        salesReportService.rebuild(from, to);
+        return ResponseEntity.noContent().build();
+    }
+}
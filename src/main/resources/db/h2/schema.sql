@@ -0,0 +1,53 @@
+create table if not exists sales_rollup
+(
+    sales_date  date           not null,
+    sales_hour  integer        not null,
+    menu_id     binary(16)     not null,
+    order_type  varchar(255)   not null,
+    amount      decimal(19, 2) not null,
+    order_count bigint         not null,
+    quantity    bigint         not null,
+    primary key (sales_date, sales_hour, menu_id, order_type)
+);
+
+create table if not exists sales_order_rollup
+(
+    sales_date  date         not null,
+    sales_hour  integer      not null,
+    order_type  varchar(255) not null,
+    order_count bigint       not null,
+    primary key (sales_date, sales_hour, order_type)
+);
+
+create table if not exists sales_daily_rollup
+(
+    sales_date  date           not null,
+    menu_id     binary(16)     not null,
+    order_type  varchar(255)   not null,
+    amount      decimal(19, 2) not null,
+    order_count bigint         not null,
+    quantity    bigint         not null,
+    primary key (sales_date, menu_id, order_type)
+);
+
+create table if not exists sales_daily_order_rollup
+(
+    sales_date  date         not null,
+    order_type  varchar(255) not null,
+    order_count bigint       not null,
+    primary key (sales_date, order_type)
+);
+
+create table if not exists idempotency_record
+(
+    idempotency_key varchar(64)  not null,
+    reserved_by     varchar(36),
+    content_type    varchar(255),
+    created_at      datetime(6)  not null,
+    expires_at      datetime(6)  not null,
+    location        varchar(255),
+    request_hash    varchar(64),
+    response_body   longblob,
+    status_code     integer,
+    primary key (idempotency_key)
+);
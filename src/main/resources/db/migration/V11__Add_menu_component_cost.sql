@@ -0,0 +1,11 @@
+alter table menu
+    add column component_cost decimal(19, 2);
+
+update menu m
+set m.component_cost = (select coalesce(sum(p.price * mp.quantity), 0)
+                        from menu_product mp
+                                 join product p on p.id = mp.product_id
+                        where mp.menu_id = m.id);
+
+alter table menu
+    modify component_cost decimal(19, 2) not null;
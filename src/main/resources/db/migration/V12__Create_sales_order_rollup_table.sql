@@ -0,0 +1,19 @@
+create table sales_order_rollup
+(
+    sales_date  date         not null,
+    sales_hour  integer      not null,
+    order_type  varchar(255) not null,
+    order_count bigint       not null,
+    primary key (sales_date, sales_hour, order_type)
+) engine = InnoDB;
+
+insert into sales_order_rollup (sales_date, sales_hour, order_type, order_count)
+select cast(s.order_date_time as date), hour(s.order_date_time), s.type, count(*)
+from (select o.order_date_time, o.type
+      from orders o
+      where o.status = 'COMPLETED'
+      union all
+      select o.order_date_time, o.type
+      from orders_archive o
+      where o.status = 'COMPLETED') s
+group by cast(s.order_date_time as date), hour(s.order_date_time), s.type;
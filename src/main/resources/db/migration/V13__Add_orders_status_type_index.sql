@@ -0,0 +1 @@
+create index ix_orders_status_type on orders (status, type);
@@ -0,0 +1,2 @@
+alter table idempotency_record
+    add column reserved_by varchar(36);
@@ -0,0 +1,57 @@
+create table sales_daily_rollup
+(
+    sales_date  date           not null,
+    menu_id     binary(16)     not null,
+    order_type  varchar(255)   not null,
+    amount      decimal(19, 2) not null,
+    order_count bigint         not null,
+    quantity    bigint         not null,
+    primary key (sales_date, menu_id, order_type)
+) engine = InnoDB;
+
+create table sales_daily_order_rollup
+(
+    sales_date  date         not null,
+    order_type  varchar(255) not null,
+    order_count bigint       not null,
+    primary key (sales_date, order_type)
+) engine = InnoDB;
+
+delete from sales_rollup;
+
+insert into sales_rollup (sales_date, sales_hour, menu_id, order_type, order_count, quantity, amount)
+select cast(s.order_date_time as date), hour(s.order_date_time), s.menu_id, s.type,
+       count(*), sum(s.quantity), sum(s.price * s.quantity)
+from (select o.order_date_time, o.type, oli.menu_id, oli.price, oli.quantity
+      from orders o
+               join order_line_item oli on oli.order_id = o.id
+      where o.status = 'COMPLETED'
+      union all
+      select o.order_date_time, o.type, oli.menu_id, oli.price, oli.quantity
+      from orders_archive o
+               join order_line_item_archive oli on oli.order_id = o.id and oli.order_date_time = o.order_date_time
+      where o.status = 'COMPLETED') s
+group by cast(s.order_date_time as date), hour(s.order_date_time), s.menu_id, s.type;
+
+delete from sales_order_rollup;
+
+insert into sales_order_rollup (sales_date, sales_hour, order_type, order_count)
+select cast(s.order_date_time as date), hour(s.order_date_time), s.type, count(*)
+from (select o.order_date_time, o.type
+      from orders o
+      where o.status = 'COMPLETED'
+      union all
+      select o.order_date_time, o.type
+      from orders_archive o
+      where o.status = 'COMPLETED') s
+group by cast(s.order_date_time as date), hour(s.order_date_time), s.type;
+
+insert into sales_daily_rollup (sales_date, menu_id, order_type, order_count, quantity, amount)
+select sales_date, menu_id, order_type, sum(order_count), sum(quantity), sum(amount)
+from sales_rollup
+group by sales_date, menu_id, order_type;
+
+insert into sales_daily_order_rollup (sales_date, order_type, order_count)
+select sales_date, order_type, sum(order_count)
+from sales_order_rollup
+group by sales_date, order_type;
@@ -0,0 +1,7 @@
+create index ix_orders_order_date_time on orders (order_date_time, id);
+
+create index ix_orders_status_order_date_time on orders (status, order_date_time, id);
+
+create index ix_orders_type_order_date_time on orders (type, order_date_time, id);
+
+create index ix_orders_order_table_id_order_date_time on orders (order_table_id, order_date_time, id);
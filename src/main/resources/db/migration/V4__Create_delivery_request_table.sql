@@ -0,0 +1,16 @@
+create table delivery_request
+(
+    seq              bigint         not null auto_increment,
+    amount           decimal(19, 2) not null,
+    attempts         integer        not null,
+    created_at       datetime(6)    not null,
+    delivery_address varchar(255)   not null,
+    last_error       varchar(255),
+    next_attempt_at  datetime(6)    not null,
+    order_id         binary(16)     not null,
+    sent_at          datetime(6),
+    status           varchar(255)   not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_delivery_request_status_next_attempt_at on delivery_request (status, next_attempt_at);
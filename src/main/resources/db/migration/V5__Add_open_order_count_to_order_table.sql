@@ -0,0 +1,8 @@
+alter table order_table
+    add column open_order_count integer not null default 0;
+
+update order_table t
+set t.open_order_count = (select count(*)
+                          from orders o
+                          where o.order_table_id = t.id
+                            and o.status <> 'COMPLETED');
@@ -0,0 +1,21 @@
+alter table order_line_item
+    add column price decimal(19, 2);
+
+update order_line_item oli
+set oli.price = (select m.price
+                 from menu m
+                 where m.id = oli.menu_id);
+
+alter table order_line_item
+    modify price decimal(19, 2) not null;
+
+alter table orders
+    add column total_amount decimal(19, 2);
+
+update orders o
+set o.total_amount = (select coalesce(sum(oli.price * oli.quantity), 0)
+                      from order_line_item oli
+                      where oli.order_id = o.id);
+
+alter table orders
+    modify total_amount decimal(19, 2) not null;
@@ -0,0 +1,11 @@
+create table sales_rollup
+(
+    sales_date  date           not null,
+    sales_hour  integer        not null,
+    menu_id     binary(16)     not null,
+    order_type  varchar(255)   not null,
+    amount      decimal(19, 2) not null,
+    order_count bigint         not null,
+    quantity    bigint         not null,
+    primary key (sales_date, sales_hour, menu_id, order_type)
+) engine = InnoDB;
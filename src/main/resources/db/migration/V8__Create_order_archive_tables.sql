@@ -0,0 +1,42 @@
+create table orders_archive
+(
+    id               binary(16)     not null,
+    archived_at      datetime(6)    not null,
+    delivery_address varchar(255),
+    order_date_time  datetime(6)    not null,
+    order_table_id   binary(16),
+    status           varchar(255)   not null,
+    total_amount     decimal(19, 2) not null,
+    type             varchar(255)   not null,
+    primary key (id, order_date_time)
+) engine = InnoDB
+    partition by range columns (order_date_time) (
+        partition p2022 values less than ('2023-01-01'),
+        partition p2023 values less than ('2024-01-01'),
+        partition p2024 values less than ('2025-01-01'),
+        partition p2025 values less than ('2026-01-01'),
+        partition p2026 values less than ('2027-01-01'),
+        partition p2027 values less than ('2028-01-01'),
+        partition pmax values less than (maxvalue)
+        );
+
+create table order_line_item_archive
+(
+    seq             bigint         not null,
+    menu_id         binary(16)     not null,
+    order_date_time datetime(6)    not null,
+    order_id        binary(16)     not null,
+    price           decimal(19, 2) not null,
+    quantity        bigint         not null,
+    primary key (seq, order_date_time),
+    key ix_order_line_item_archive_order_id (order_id)
+) engine = InnoDB
+    partition by range columns (order_date_time) (
+        partition p2022 values less than ('2023-01-01'),
+        partition p2023 values less than ('2024-01-01'),
+        partition p2024 values less than ('2025-01-01'),
+        partition p2025 values less than ('2026-01-01'),
+        partition p2026 values less than ('2027-01-01'),
+        partition p2027 values less than ('2028-01-01'),
+        partition pmax values less than (maxvalue)
+        );
@@ -0,0 +1,14 @@
+create table idempotency_record
+(
+    idempotency_key varchar(64)  not null,
+    content_type    varchar(255),
+    created_at      datetime(6)  not null,
+    expires_at      datetime(6)  not null,
+    location        varchar(255),
+    request_hash    varchar(64),
+    response_body   longblob,
+    status_code     integer,
+    primary key (idempotency_key)
+) engine = InnoDB;
+
+create index ix_idempotency_record_expires_at on idempotency_record (expires_at);
@@ -0,0 +1,88 @@
+package kitchenpos;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+public final class StubHttpServer implements AutoCloseable {
+    private final HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private static final Handler OK = exchange -> respond(exchange, 200, "");
+
+    private volatile Handler handler = OK;
+
+    private StubHttpServer(final HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubHttpServer start() {
+        try {
+            final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            final StubHttpServer stub = new StubHttpServer(server);
+            server.createContext("/", stub::handle);
+            server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "stub-http-server");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            return stub;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void handler(final Handler handler) {
+        this.handler = handler;
+    }
+
+    public List<String> requests() {
+        return requests;
+    }
+
+    public void reset() {
+        requests.clear();
+        handler = OK;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requests.add(exchange.getRequestURI().toString());
+        try {
+            handler.handle(exchange);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+}
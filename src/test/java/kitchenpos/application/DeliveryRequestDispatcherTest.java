@@ -0,0 +1,138 @@
+package kitchenpos.application;
+
+import kitchenpos.StubHttpServer;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DeliveryRequestDispatcherTest {
+    private static final StubHttpServer RIDERS = StubHttpServer.start();
+    private static final int MAX_ATTEMPTS = 6;
+    private static final int BATCH_SIZE = 100;
+    private static final int CONCURRENCY = 4;
+
+    @Autowired
+    private DeliveryRequestDispatcher dispatcher;
+
+    @Autowired
+    private DeliveryRequestRepository deliveryRequestRepository;
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:delivery;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        registry.add("kitchenpos.kitchenriders.base-url", RIDERS::baseUrl);
+        registry.add("kitchenpos.delivery.dispatcher.interval", () -> "PT1H");
+        registry.add("kitchenpos.delivery.dispatcher.max-attempts", () -> MAX_ATTEMPTS);
+        registry.add("kitchenpos.delivery.dispatcher.batch-size", () -> BATCH_SIZE);
+        registry.add("kitchenpos.delivery.dispatcher.concurrency", () -> CONCURRENCY);
+        registry.add("kitchenpos.delivery.dispatcher.initial-backoff", () -> "1s");
+        registry.add("kitchenpos.delivery.dispatcher.max-backoff", () -> "4s");
+    }
+
+    @AfterAll
+    static void stopRiders() {
+        RIDERS.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        deliveryRequestRepository.deleteAll();
+        RIDERS.reset();
+    }
+
+    @Test
+    void retriesWithCappedExponentialBackoffUntilTheRiderAccepts() {
+        final AtomicInteger calls = new AtomicInteger();
+        RIDERS.handler(exchange -> StubHttpServer.respond(exchange, calls.incrementAndGet() <= 4 ? 503 : 200, ""));
+        final Long seq = pendingDeliveryRequest().getSeq();
+
+        final List<Duration> backoffs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final LocalDateTime dispatchedAt = LocalDateTime.now();
+            dispatcher.dispatch();
+            final DeliveryRequest deliveryRequest = deliveryRequestRepository.findById(seq).orElseThrow();
+            assertThat(deliveryRequest.getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+            assertThat(deliveryRequest.getAttempts()).isEqualTo(i + 1);
+            backoffs.add(Duration.between(dispatchedAt, deliveryRequest.getNextAttemptAt()));
+            makeDue(deliveryRequest);
+        }
+        dispatcher.dispatch();
+
+        assertThat(backoffs).extracting(Duration::getSeconds).containsExactly(1L, 2L, 4L, 4L);
+        final DeliveryRequest actual = deliveryRequestRepository.findById(seq).orElseThrow();
+        assertThat(actual.getStatus()).isEqualTo(DeliveryRequestStatus.SENT);
+        assertThat(actual.getSentAt()).isNotNull();
+        assertThat(RIDERS.requests()).hasSize(5);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        RIDERS.handler(exchange -> StubHttpServer.respond(exchange, 503, ""));
+        final Long seq = pendingDeliveryRequest().getSeq();
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            dispatcher.dispatch();
+            makeDue(deliveryRequestRepository.findById(seq).orElseThrow());
+        }
+        dispatcher.dispatch();
+
+        final DeliveryRequest actual = deliveryRequestRepository.findById(seq).orElseThrow();
+        assertThat(actual.getStatus()).isEqualTo(DeliveryRequestStatus.FAILED);
+        assertThat(actual.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(actual.getLastError()).contains("503");
+        assertThat(RIDERS.requests()).hasSize(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void leaseOutlastsTheWorstCaseBatch() {
+        final List<Duration> leases = new CopyOnWriteArrayList<>();
+        RIDERS.handler(exchange -> {
+            final DeliveryRequest claimed = deliveryRequestRepository.findAll().get(0);
+            leases.add(Duration.between(LocalDateTime.now(), claimed.getNextAttemptAt()));
+            StubHttpServer.respond(exchange, 200, "");
+        });
+        pendingDeliveryRequest();
+
+        dispatcher.dispatch();
+
+        final Duration requestTimeout = Duration.ofMillis(500).plus(Duration.ofSeconds(2));
+        final int rounds = (BATCH_SIZE + CONCURRENCY - 1) / CONCURRENCY;
+        assertThat(leases).hasSize(1);
+        assertThat(leases.get(0)).isGreaterThan(requestTimeout.multipliedBy(rounds));
+    }
+
+    private DeliveryRequest pendingDeliveryRequest() {
+        final DeliveryRequest deliveryRequest = new DeliveryRequest();
+        deliveryRequest.setOrderId(UUID.randomUUID());
+        deliveryRequest.setAmount(BigDecimal.valueOf(32_000L));
+        deliveryRequest.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        deliveryRequest.setStatus(DeliveryRequestStatus.PENDING);
+        deliveryRequest.setNextAttemptAt(LocalDateTime.now());
+        deliveryRequest.setCreatedAt(LocalDateTime.now());
+        return deliveryRequestRepository.save(deliveryRequest);
+    }
+
+    private void makeDue(final DeliveryRequest deliveryRequest) {
+        deliveryRequest.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        deliveryRequestRepository.save(deliveryRequest);
+    }
+}
@@ -0,0 +1,110 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.infra.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class FindAllQueryCountTest {
+    private static final int ROWS = 5;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private MenuGroup menuGroup;
+
+    @BeforeEach
+    void setUp() {
+        menuGroup = TestFixtures.menuGroup(menuGroupService);
+    }
+
+    @Test
+    void menusLoadWithFixedQueries() {
+        addMenus();
+        final int before = selects(menuService::findAll);
+        addMenus();
+
+        assertThat(selects(menuService::findAll)).isEqualTo(before);
+        assertThat(before).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void ordersLoadWithFixedQueries() {
+        addOrders();
+        final int before = selects(() -> orderService.findAll(new OrderSearchCondition()));
+        addOrders();
+
+        assertThat(selects(() -> orderService.findAll(new OrderSearchCondition()))).isEqualTo(before);
+        assertThat(before).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void orderTablesLoadWithFixedQueries() {
+        addOrderTables();
+        final int before = selects(orderTableService::findAll);
+        addOrderTables();
+
+        assertThat(selects(orderTableService::findAll)).isEqualTo(before);
+        assertThat(before).isLessThanOrEqualTo(1);
+    }
+
+    private int selects(final Supplier<?> query) {
+        statementCounter.start();
+        query.get();
+        return statementCounter.stop().getSelects();
+    }
+
+    private void addMenus() {
+        for (int i = 0; i < ROWS; i++) {
+            newMenu();
+        }
+    }
+
+    private void addOrders() {
+        for (int i = 0; i < ROWS; i++) {
+            orderService.create(TestFixtures.eatInOrderRequest(
+                TestFixtures.occupiedOrderTable(orderTableService).getId(),
+                newMenu(),
+                newMenu()
+            ));
+        }
+    }
+
+    private void addOrderTables() {
+        for (int i = 0; i < ROWS; i++) {
+            TestFixtures.occupiedOrderTable(orderTableService);
+        }
+    }
+
+    private Menu newMenu() {
+        return TestFixtures.menu(
+            menuService,
+            menuGroup,
+            TestFixtures.product(productService, 16_000L),
+            TestFixtures.product(productService, 17_000L)
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuView;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MenuSearchIndexTest {
+    @Autowired
+    private MenuSearchIndex menuSearchIndex;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    private MenuGroup menuGroup;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        menuGroup = TestFixtures.menuGroup(menuGroupService);
+        final Product product = TestFixtures.product(productService, 16_000L);
+        TestFixtures.menu(menuService, "칭찬세트", menuGroup, product);
+        TestFixtures.menu(menuService, "치킨", menuGroup, product);
+        TestFixtures.menu(menuService, "양념치킨", menuGroup, product);
+        for (int attempt = 0; attempt < 50 && search("").size() < 3; attempt++) {
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void singleSyllableDoesNotMatchSyllablesSharingItsJamo() {
+        assertThat(search("치")).extracting(MenuView::getName)
+            .containsExactlyInAnyOrder("치킨", "양념치킨");
+    }
+
+    @Test
+    void matchesWholeSyllablesAnywhereInTheName() {
+        assertThat(search("치킨")).extracting(MenuView::getName)
+            .containsExactlyInAnyOrder("치킨", "양념치킨");
+        assertThat(search("칭찬")).extracting(MenuView::getName)
+            .containsExactly("칭찬세트");
+        assertThat(search("념치킨")).extracting(MenuView::getName)
+            .containsExactly("양념치킨");
+    }
+
+    private List<MenuView> search(final String q) {
+        final MenuSearchCondition condition = new MenuSearchCondition();
+        condition.setQ(q);
+        condition.setMenuGroupId(menuGroup.getId());
+        return menuSearchIndex.search(condition);
+    }
+}
@@ -0,0 +1,135 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.infra.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class OrderServiceCreateAllTest {
+    private static final int TARGET_SPEEDUP = 5;
+    private static final int MAX_BULK_SIZE = 1_000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private Menu menu;
+    private OrderTable orderTable;
+
+    @BeforeEach
+    void setUp() {
+        menu = TestFixtures.menu(
+            menuService,
+            TestFixtures.menuGroup(menuGroupService),
+            TestFixtures.product(productService, 16_000L)
+        );
+        orderTable = TestFixtures.occupiedOrderTable(orderTableService);
+    }
+
+    @Test
+    void statementsDoNotGrowWithBatchSize() {
+        assertThat(createAllStatements(50)).isEqualTo(createAllStatements(10));
+    }
+
+    @Test
+    void batchNeedsFarFewerStatementsPerOrderThanSingleCreates() {
+        final int batchSize = 50;
+
+        statementCounter.start();
+        orderService.create(TestFixtures.eatInOrderRequest(orderTable.getId(), menu));
+        final int single = statementCounter.stop().getStatements();
+        final int batch = createAllStatements(batchSize);
+
+        assertThat(batch * TARGET_SPEEDUP).isLessThanOrEqualTo(single * batchSize);
+    }
+
+    @Test
+    void oneBadOrderDoesNotRejectTheOthers() {
+        final Order unknownMenu = TestFixtures.takeoutOrderRequest(menu);
+        unknownMenu.getOrderLineItems().get(0).setMenuId(UUID.randomUUID());
+
+        final List<BulkResult> results = orderService.createAll(Arrays.asList(
+            TestFixtures.eatInOrderRequest(orderTable.getId(), menu),
+            unknownMenu,
+            TestFixtures.takeoutOrderRequest(menu)
+        ));
+
+        assertThat(results).extracting(BulkResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BulkResult::isSucceeded).containsExactly(true, false, true);
+        assertThat(orderRepository.findById(results.get(0).getId())).isPresent();
+        assertThat(orderRepository.findById(results.get(2).getId())).isPresent();
+    }
+
+    @Test
+    void nullEntriesAreReportedAtTheirIndex() {
+        final Order nullLineItem = TestFixtures.takeoutOrderRequest(menu);
+        nullLineItem.getOrderLineItems().add(null);
+
+        final List<BulkResult> results = orderService.createAll(Arrays.asList(
+            TestFixtures.takeoutOrderRequest(menu),
+            null,
+            nullLineItem,
+            TestFixtures.eatInOrderRequest(orderTable.getId(), menu)
+        ));
+
+        assertThat(results).extracting(BulkResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BulkResult::isSucceeded).containsExactly(true, false, false, true);
+        assertThat(results.get(1).getError()).isEqualTo(IllegalArgumentException.class.getSimpleName());
+        assertThat(results.get(2).getError()).isEqualTo(IllegalArgumentException.class.getSimpleName());
+    }
+
+    @Test
+    void rejectsBatchesLargerThanTheBulkLimit() {
+        final List<Order> requests = new ArrayList<>(Collections.nCopies(
+            MAX_BULK_SIZE + 1,
+            TestFixtures.takeoutOrderRequest(menu)
+        ));
+
+        assertThatThrownBy(() -> orderService.createAll(requests))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int createAllStatements(final int count) {
+        final List<Order> requests = new ArrayList<>(Collections.nCopies(
+            count,
+            TestFixtures.eatInOrderRequest(orderTable.getId(), menu)
+        ));
+        statementCounter.start();
+        final List<BulkResult> results = orderService.createAll(requests);
+        final int statements = statementCounter.stop().getStatements();
+        assertThat(results).allMatch(BulkResult::isSucceeded);
+        return statements;
+    }
+}
@@ -0,0 +1,77 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.infra.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderServiceCreateTest {
+    private static final int MAX_SELECTS = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private MenuGroup menuGroup;
+
+    @BeforeEach
+    void setUp() {
+        menuGroup = TestFixtures.menuGroup(menuGroupService);
+    }
+
+    @Test
+    void eatInSelectsDoNotGrowWithLineItems() {
+        final OrderTable orderTable = TestFixtures.occupiedOrderTable(orderTableService);
+
+        final int oneLine = selects(TestFixtures.eatInOrderRequest(orderTable.getId(), menus(1)));
+        final int tenLines = selects(TestFixtures.eatInOrderRequest(orderTable.getId(), menus(10)));
+
+        assertThat(tenLines).isEqualTo(oneLine);
+        assertThat(oneLine).isLessThanOrEqualTo(MAX_SELECTS);
+    }
+
+    @Test
+    void takeoutSelectsDoNotGrowWithLineItems() {
+        final int oneLine = selects(TestFixtures.takeoutOrderRequest(menus(1)));
+        final int tenLines = selects(TestFixtures.takeoutOrderRequest(menus(10)));
+
+        assertThat(tenLines).isEqualTo(oneLine);
+        assertThat(oneLine).isLessThanOrEqualTo(MAX_SELECTS);
+    }
+
+    private int selects(final Order request) {
+        statementCounter.start();
+        orderService.create(request);
+        return statementCounter.stop().getSelects();
+    }
+
+    private Menu[] menus(final int count) {
+        final Menu[] menus = new Menu[count];
+        for (int i = 0; i < count; i++) {
+            menus[i] = TestFixtures.menu(menuService, menuGroup, TestFixtures.product(productService, 16_000L));
+        }
+        return menus;
+    }
+}
@@ -0,0 +1,134 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderStatusTransitionConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ORDERS = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        menu = TestFixtures.menu(
+            menuService,
+            TestFixtures.menuGroup(menuGroupService),
+            TestFixtures.product(productService, 16_000L)
+        );
+    }
+
+    @Test
+    void exactlyOneConcurrentCallWinsEachTransition() throws Exception {
+        for (int i = 0; i < ORDERS; i++) {
+            final UUID orderId = orderService.create(TestFixtures.takeoutOrderRequest(menu)).getId();
+
+            assertThat(race(thread -> transition(0, orderId))).isEqualTo(1);
+            assertThat(status(orderId)).isEqualTo(OrderStatus.ACCEPTED);
+            assertThat(race(thread -> transition(1, orderId))).isEqualTo(1);
+            assertThat(status(orderId)).isEqualTo(OrderStatus.SERVED);
+            assertThat(race(thread -> transition(2, orderId))).isEqualTo(1);
+            assertThat(status(orderId)).isEqualTo(OrderStatus.COMPLETED);
+        }
+    }
+
+    @Test
+    void mixedTransitionsNeverSkipOrRepeatAStep() throws Exception {
+        for (int i = 0; i < ORDERS; i++) {
+            final UUID orderId = orderService.create(TestFixtures.takeoutOrderRequest(menu)).getId();
+            final Set<OrderStatus> reached = ConcurrentHashMap.newKeySet();
+            final List<OrderStatus> steps = Arrays.asList(OrderStatus.ACCEPTED, OrderStatus.SERVED, OrderStatus.COMPLETED);
+
+            final int succeeded = race(thread -> {
+                final int step = thread % steps.size();
+                final boolean won = transition(step, orderId);
+                if (won) {
+                    assertThat(reached.add(steps.get(step))).isTrue();
+                }
+                return won;
+            });
+
+            assertThat(succeeded).isEqualTo(reached.size());
+            assertThat(steps.subList(0, reached.size())).containsExactlyInAnyOrderElementsOf(reached);
+            final OrderStatus expected = reached.isEmpty() ? OrderStatus.WAITING : steps.get(reached.size() - 1);
+            assertThat(status(orderId)).isEqualTo(expected);
+        }
+    }
+
+    private boolean transition(final int step, final UUID orderId) {
+        try {
+            if (step == 0) {
+                orderService.accept(orderId);
+            } else if (step == 1) {
+                orderService.serve(orderId);
+            } else {
+                orderService.complete(orderId);
+            }
+            return true;
+        } catch (final IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private OrderStatus status(final UUID orderId) {
+        return orderRepository.findById(orderId)
+            .orElseThrow()
+            .getStatus();
+    }
+
+    private int race(final Function<Integer, Boolean> task) throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int index = thread;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return task.apply(index);
+                }));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (final Future<Boolean> future : futures) {
+                if (future.get(1, TimeUnit.MINUTES)) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
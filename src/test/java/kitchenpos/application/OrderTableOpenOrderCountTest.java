@@ -0,0 +1,172 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderTableOpenOrderCountTest {
+    private static final int THREADS = 4;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        menu = TestFixtures.menu(
+            menuService,
+            TestFixtures.menuGroup(menuGroupService),
+            TestFixtures.product(productService, 16_000L)
+        );
+    }
+
+    @Test
+    void openOrderCountMatchesOpenOrdersUnderConcurrentIntakeAndCompletion() throws Exception {
+        final OrderTable orderTable = TestFixtures.occupiedOrderTable(orderTableService);
+        final BlockingQueue<UUID> openOrders = new LinkedBlockingQueue<>();
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (thread % 2 == 0) {
+                    final List<BulkResult> results = orderService.createAll(Arrays.asList(
+                        TestFixtures.eatInOrderRequest(orderTable.getId(), menu),
+                        TestFixtures.eatInOrderRequest(orderTable.getId(), menu)
+                    ));
+                    results.stream()
+                        .filter(BulkResult::isSucceeded)
+                        .forEach(result -> {
+                            openOrders.add(result.getId());
+                            created.incrementAndGet();
+                        });
+                } else {
+                    try {
+                        openOrders.add(orderService.create(TestFixtures.eatInOrderRequest(orderTable.getId(), menu)).getId());
+                        created.incrementAndGet();
+                    } catch (final IllegalStateException e) {
+                        orderTableService.sit(orderTable.getId());
+                    }
+                }
+                final UUID orderId = openOrders.poll();
+                if (!Objects.isNull(orderId)) {
+                    complete(orderId);
+                    completed.incrementAndGet();
+                }
+            }
+        });
+
+        final OrderTable actual = orderTableRepository.findById(orderTable.getId()).orElseThrow();
+        assertThat(actual.getOpenOrderCount()).isEqualTo(created.get() - completed.get());
+        if (!actual.isOccupied()) {
+            assertThat(actual.getOpenOrderCount()).isZero();
+        }
+    }
+
+    @Test
+    void batchIntakeRejectsOrdersForTableClearedConcurrently() throws Exception {
+        final OrderTable orderTable = TestFixtures.occupiedOrderTable(orderTableService);
+        final BlockingQueue<UUID> openOrders = new LinkedBlockingQueue<>();
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger completed = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                if (thread % 2 == 0) {
+                    orderService.createAll(Arrays.asList(TestFixtures.eatInOrderRequest(orderTable.getId(), menu)))
+                        .forEach(result -> {
+                            if (result.isSucceeded()) {
+                                openOrders.add(result.getId());
+                                created.incrementAndGet();
+                            } else {
+                                assertThat(result.getError()).isEqualTo(IllegalStateException.class.getSimpleName());
+                            }
+                        });
+                    continue;
+                }
+                final UUID orderId = openOrders.poll();
+                if (!Objects.isNull(orderId)) {
+                    complete(orderId);
+                    completed.incrementAndGet();
+                }
+                orderTableService.sit(orderTable.getId());
+            }
+        });
+
+        final OrderTable actual = orderTableRepository.findById(orderTable.getId()).orElseThrow();
+        assertThat(actual.getOpenOrderCount()).isEqualTo(created.get() - completed.get());
+        if (!actual.isOccupied()) {
+            assertThat(actual.getOpenOrderCount()).isZero();
+        }
+
+        for (UUID orderId = openOrders.poll(); !Objects.isNull(orderId); orderId = openOrders.poll()) {
+            complete(orderId);
+        }
+        final OrderTable drained = orderTableRepository.findById(orderTable.getId()).orElseThrow();
+        assertThat(drained.getOpenOrderCount()).isZero();
+    }
+
+    private void complete(final UUID orderId) {
+        orderService.accept(orderId);
+        orderService.serve(orderId);
+        orderService.complete(orderId);
+    }
+
+    private void runConcurrently(final ThreadTask task) throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int index = thread;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
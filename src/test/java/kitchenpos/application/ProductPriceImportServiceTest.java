@@ -0,0 +1,68 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProductPriceImportServiceTest {
+    @Autowired
+    private ProductPriceImportService productPriceImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void csvResultsReportFileLineNumbers() {
+        final Product product = TestFixtures.product(productService, 16_000L);
+        final String csv = "product_id,price\n"
+            + "\n"
+            + product.getId() + ",17000\n"
+            + "\n"
+            + UUID.randomUUID() + ",17000\n"
+            + "not-a-uuid,17000\n";
+
+        final List<BulkResult> results = productPriceImportService.importPrices(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+            ProductPriceFormat.CSV
+        ).getResults();
+
+        assertThat(results).extracting(BulkResult::getIndex).containsExactly(3, 5, 6);
+        assertThat(results).extracting(BulkResult::isSucceeded).containsExactly(true, false, false);
+    }
+
+    @Test
+    void csvImportAbortsOnceTheBulkLimitIsExceeded() {
+        final UnboundedCsv csv = new UnboundedCsv();
+
+        assertThatThrownBy(() -> productPriceImportService.importPrices(csv, ProductPriceFormat.CSV))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(csv.rows).isLessThan(ProductService.MAX_BULK_SIZE + 1_000);
+    }
+
+    private static class UnboundedCsv extends InputStream {
+        private static final byte[] ROW = (UUID.randomUUID() + ",1000\n").getBytes(StandardCharsets.UTF_8);
+
+        private int position;
+        private int rows;
+
+        @Override
+        public int read() {
+            if (position == ROW.length) {
+                position = 0;
+                rows++;
+            }
+            return ROW[position++];
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class SalesReportServiceTest {
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Menu chicken;
+    private Menu set;
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:sales;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from sales_rollup");
+        jdbcTemplate.update("delete from sales_order_rollup");
+        jdbcTemplate.update("delete from sales_daily_rollup");
+        jdbcTemplate.update("delete from sales_daily_order_rollup");
+        jdbcTemplate.update("delete from order_line_item");
+        jdbcTemplate.update("delete from orders");
+
+        final MenuGroup menuGroup = TestFixtures.menuGroup(menuGroupService);
+        chicken = TestFixtures.menu(menuService, menuGroup, TestFixtures.product(productService, 16_000L));
+        set = TestFixtures.menu(
+            menuService,
+            menuGroup,
+            TestFixtures.product(productService, 16_000L),
+            TestFixtures.product(productService, 18_000L)
+        );
+        final OrderTable orderTable = TestFixtures.occupiedOrderTable(orderTableService);
+
+        complete(orderService.create(TestFixtures.takeoutOrderRequest(chicken, set)).getId());
+        complete(orderService.create(TestFixtures.takeoutOrderRequest(chicken)).getId());
+        complete(orderService.create(TestFixtures.eatInOrderRequest(orderTable.getId(), set)).getId());
+        orderService.accept(orderService.create(TestFixtures.takeoutOrderRequest(chicken)).getId());
+    }
+
+    @Test
+    void summarizesCompletedOrdersByMenuAndOrderType() {
+        final LocalDate today = LocalDate.now();
+
+        assertThat(salesReportService.summarize(today, today, SalesDimension.MENU))
+            .extracting(SalesSummary::getKey, SalesSummary::getOrderCount, SalesSummary::getQuantity, this::amountOf)
+            .containsExactlyInAnyOrder(
+                tuple(chicken.getId().toString(), 2L, 2L, 32_000L),
+                tuple(set.getId().toString(), 2L, 2L, 68_000L)
+            );
+        assertThat(salesReportService.summarize(today, today, SalesDimension.ORDER_TYPE))
+            .extracting(SalesSummary::getKey, SalesSummary::getOrderCount, SalesSummary::getQuantity, this::amountOf)
+            .containsExactlyInAnyOrder(
+                tuple(OrderType.EAT_IN.name(), 1L, 1L, 34_000L),
+                tuple(OrderType.TAKEOUT.name(), 2L, 3L, 66_000L)
+            );
+    }
+
+    @Test
+    void dailyAndHourlyTotalsMatchTheOrders() {
+        final Map<String, Object> expected = jdbcTemplate.queryForMap(
+            "select count(distinct o.id) as order_count, sum(oli.quantity) as quantity, "
+                + "sum(oli.price * oli.quantity) as amount "
+                + "from orders o join order_line_item oli on oli.order_id = o.id "
+                + "where o.status = 'COMPLETED'"
+        );
+        final LocalDate today = LocalDate.now();
+
+        for (final SalesDimension dimension : new SalesDimension[]{SalesDimension.DATE, SalesDimension.HOUR}) {
+            final List<SalesSummary> summaries = salesReportService.summarize(today.minusDays(1), today, dimension);
+            assertThat(summaries.stream().mapToLong(SalesSummary::getOrderCount).sum())
+                .isEqualTo(((Number) expected.get("order_count")).longValue());
+            assertThat(summaries.stream().mapToLong(SalesSummary::getQuantity).sum())
+                .isEqualTo(((Number) expected.get("quantity")).longValue());
+            assertThat(summaries.stream().map(SalesSummary::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo((BigDecimal) expected.get("amount"));
+        }
+    }
+
+    @Test
+    void rebuildReproducesTheIncrementalRollups() {
+        final LocalDate today = LocalDate.now();
+        final List<List<String>> before = snapshot(today);
+
+        salesReportService.rebuild(today, today);
+
+        assertThat(snapshot(today)).isEqualTo(before);
+    }
+
+    private List<List<String>> snapshot(final LocalDate salesDate) {
+        return List.of(
+            rows(
+                "select sales_hour, menu_id, order_type, order_count, quantity, amount from sales_rollup "
+                    + "where sales_date = ? order by sales_hour, menu_id, order_type",
+                salesDate
+            ),
+            rows(
+                "select sales_hour, order_type, order_count from sales_order_rollup "
+                    + "where sales_date = ? order by sales_hour, order_type",
+                salesDate
+            ),
+            rows(
+                "select menu_id, order_type, order_count, quantity, amount from sales_daily_rollup "
+                    + "where sales_date = ? order by menu_id, order_type",
+                salesDate
+            ),
+            rows(
+                "select order_type, order_count from sales_daily_order_rollup "
+                    + "where sales_date = ? order by order_type",
+                salesDate
+            )
+        );
+    }
+
+    private List<String> rows(final String sql, final LocalDate salesDate) {
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> {
+            final List<String> columns = new ArrayList<>();
+            for (int column = 1; column <= resultSet.getMetaData().getColumnCount(); column++) {
+                final Object value = resultSet.getObject(column);
+                columns.add(value instanceof byte[] ? Arrays.toString((byte[]) value) : String.valueOf(value));
+            }
+            return String.join(",", columns);
+        }, salesDate);
+    }
+
+    private long amountOf(final SalesSummary summary) {
+        return summary.getAmount().longValueExact();
+    }
+
+    private void complete(final UUID orderId) {
+        orderService.accept(orderId);
+        orderService.serve(orderId);
+        orderService.complete(orderId);
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ServiceTimerTest {
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void recordsATimerPerServiceMethod() {
+        final long before = count(MenuGroupService.class, "findAll", "none");
+
+        menuGroupService.findAll();
+
+        assertThat(count(MenuGroupService.class, "findAll", "none")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void tagsFailedCallsWithTheException() {
+        final long before = count(OrderService.class, "accept", "NoSuchElementException");
+
+        assertThatThrownBy(() -> orderService.accept(UUID.randomUUID()))
+            .isInstanceOf(NoSuchElementException.class);
+
+        assertThat(count(OrderService.class, "accept", "NoSuchElementException")).isEqualTo(before + 1);
+    }
+
+    private long count(final Class<?> type, final String method, final String exception) {
+        final Timer timer = meterRegistry.find("kitchenpos.service")
+            .tag("class", type.getName())
+            .tag("method", method)
+            .tag("exception", exception)
+            .timer();
+        return Objects.isNull(timer) ? 0 : timer.count();
+    }
+}
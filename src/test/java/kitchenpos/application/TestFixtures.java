@@ -0,0 +1,86 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class TestFixtures {
+    private TestFixtures() {
+    }
+
+    public static MenuGroup menuGroup(final MenuGroupService menuGroupService) {
+        final MenuGroup request = new MenuGroup();
+        request.setName("두마리메뉴");
+        return menuGroupService.create(request);
+    }
+
+    public static Product product(final ProductService productService, final long price) {
+        final Product request = new Product();
+        request.setName("후라이드");
+        request.setPrice(BigDecimal.valueOf(price));
+        return productService.create(request);
+    }
+
+    public static Menu menu(final MenuService menuService, final MenuGroup menuGroup, final Product... products) {
+        return menu(menuService, "후라이드+후라이드", menuGroup, products);
+    }
+
+    public static Menu menu(
+        final MenuService menuService,
+        final String name,
+        final MenuGroup menuGroup,
+        final Product... products
+    ) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        BigDecimal price = BigDecimal.ZERO;
+        for (final Product product : products) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(product.getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+            price = price.add(product.getPrice());
+        }
+        final Menu request = new Menu();
+        request.setName(name);
+        request.setPrice(price);
+        request.setMenuGroupId(menuGroup.getId());
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts);
+        return menuService.create(request);
+    }
+
+    public static OrderTable occupiedOrderTable(final OrderTableService orderTableService) {
+        final OrderTable request = new OrderTable();
+        request.setName("1번");
+        final OrderTable orderTable = orderTableService.create(request);
+        return orderTableService.sit(orderTable.getId());
+    }
+
+    public static Order eatInOrderRequest(final UUID orderTableId, final Menu... menus) {
+        final Order request = orderRequest(OrderType.EAT_IN, menus);
+        request.setOrderTableId(orderTableId);
+        return request;
+    }
+
+    public static Order takeoutOrderRequest(final Menu... menus) {
+        return orderRequest(OrderType.TAKEOUT, menus);
+    }
+
+    private static Order orderRequest(final OrderType type, final Menu... menus) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Menu menu : menus) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItem.setQuantity(1L);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order request = new Order();
+        request.setType(type);
+        request.setOrderLineItems(orderLineItems);
+        return request;
+    }
+}
@@ -0,0 +1,47 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalProfanityCheckerTest {
+    private final LocalProfanityChecker checker = new LocalProfanityChecker(new ClassPathResource("profanity/words.txt"));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "개새끼 세트",
+        "개새야 치킨",
+        "개.새 치킨",
+        "씨발 치킨",
+        "씨 발 치킨",
+        "병신같은 메뉴",
+        "맛있는 조개새끼",
+        "FUCK chicken",
+        "sh!t burger",
+        "shit!",
+        "fuck!!",
+        "fuck!! chicken",
+        "b1tch wings"
+    })
+    void rejectsProfanity(final String name) {
+        assertThat(checker.containsProfanity(name)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "조개 새우 파스타",
+        "조개새우찜",
+        "무지개새우튀김",
+        "후라이드+후라이드",
+        "양념치킨",
+        "scunthorpe chicken",
+        "dickens pie",
+        "chicken!!",
+        "2 for 1 wings!"
+    })
+    void acceptsCleanNames(final String name) {
+        assertThat(checker.containsProfanity(name)).isFalse();
+    }
+}
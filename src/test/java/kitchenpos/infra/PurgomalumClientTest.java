@@ -0,0 +1,116 @@
+package kitchenpos.infra;
+
+import kitchenpos.StubHttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PurgomalumClientTest {
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(200);
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final int MAX_REQUEST_URI_LENGTH = 2_000;
+
+    private StubHttpServer server;
+    private PurgomalumClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = StubHttpServer.start();
+        client = new PurgomalumClient(
+            new RestTemplateBuilder(),
+            server.baseUrl(),
+            READ_TIMEOUT,
+            READ_TIMEOUT,
+            4,
+            100,
+            Duration.ofHours(1),
+            FAILURE_THRESHOLD,
+            Duration.ofMinutes(1)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void concurrentLookupsOfTheSameNameShareOneRequest() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        server.handler(exchange -> {
+            release.await(5, TimeUnit.SECONDS);
+            StubHttpServer.respond(exchange, 200, "true");
+        });
+
+        final List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(client.containsProfanityAsync(i % 2 == 0 ? "Bad  Name" : "bad name"));
+        }
+        release.countDown();
+
+        for (final CompletableFuture<Boolean> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(client.containsProfanity("bad name")).isTrue();
+        assertThat(server.requests()).hasSize(1);
+    }
+
+    @Test
+    void slowResponsesFailWithTheReadTimeout() {
+        server.handler(exchange -> {
+            Thread.sleep(READ_TIMEOUT.multipliedBy(5).toMillis());
+            StubHttpServer.respond(exchange, 200, "false");
+        });
+
+        final long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.containsProfanity("후라이드"))
+            .isInstanceOf(RestClientException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(READ_TIMEOUT.multipliedBy(4));
+    }
+
+    @Test
+    void koreanNamesAreChunkedByEncodedLength() {
+        server.handler(exchange -> StubHttpServer.respond(
+            exchange,
+            200,
+            String.valueOf(exchange.getRequestURI().getQuery().contains("씨발"))
+        ));
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            names.add("반반치킨세트" + i);
+        }
+        names.add("씨발치킨");
+
+        assertThat(client.findAllContainingProfanity(names)).containsExactly("씨발치킨");
+        assertThat(server.requests())
+            .hasSizeGreaterThan(1)
+            .allSatisfy(uri -> assertThat(uri.length()).isLessThanOrEqualTo(MAX_REQUEST_URI_LENGTH));
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        server.handler(exchange -> StubHttpServer.respond(exchange, 500, "error"));
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            final String name = "양념" + i;
+            assertThatThrownBy(() -> client.containsProfanity(name))
+                .isInstanceOf(RestClientException.class);
+        }
+        assertThatThrownBy(() -> client.containsProfanity("간장"))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(server.requests()).hasSize(FAILURE_THRESHOLD);
+    }
+}
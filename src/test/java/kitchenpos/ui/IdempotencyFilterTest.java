@@ -0,0 +1,142 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.ProductService;
+import kitchenpos.application.TestFixtures;
+import kitchenpos.domain.IdempotencyRecord;
+import kitchenpos.domain.IdempotencyRecordRepository;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+    private static final String ORDERS = "/api/orders";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private Menu menu;
+    private String idempotencyKey;
+
+    @BeforeEach
+    void setUp() {
+        menu = TestFixtures.menu(
+            menuService,
+            TestFixtures.menuGroup(menuGroupService),
+            TestFixtures.product(productService, 16_000L)
+        );
+        idempotencyKey = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void replaysTheStoredResponse() throws Exception {
+        final String body = json(TestFixtures.takeoutOrderRequest(menu));
+
+        final MockHttpServletResponse first = create(body)
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse();
+        final MockHttpServletResponse second = create(body)
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andReturn()
+            .getResponse();
+
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(HttpHeaders.LOCATION)).isEqualTo(first.getHeader(HttpHeaders.LOCATION));
+        assertThat(idempotencyRecordRepository.findByKey(recordKey()))
+            .get()
+            .extracting(IdempotencyRecord::getStatusCode)
+            .isEqualTo(201);
+    }
+
+    @Test
+    void rejectsAReusedKeyWithADifferentBody() throws Exception {
+        create(json(TestFixtures.takeoutOrderRequest(menu))).andExpect(status().isCreated());
+
+        final Order other = TestFixtures.takeoutOrderRequest(menu);
+        other.getOrderLineItems().get(0).setQuantity(2L);
+        create(json(other)).andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void rejectsARetryWhileTheFirstRequestIsInFlight() throws Exception {
+        final LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.reserve(recordKey(), UUID.randomUUID().toString(), now, now.plusMinutes(1));
+
+        create(json(TestFixtures.takeoutOrderRequest(menu))).andExpect(status().isConflict());
+    }
+
+    @Test
+    void releasesTheReservationWhenTheRequestFails() throws Exception {
+        final Order invalid = TestFixtures.takeoutOrderRequest(menu);
+        invalid.setOrderLineItems(Collections.emptyList());
+
+        assertThatThrownBy(() -> create(json(invalid)))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(idempotencyRecordRepository.findByKey(recordKey())).isEmpty();
+
+        create(json(TestFixtures.takeoutOrderRequest(menu))).andExpect(status().isCreated());
+    }
+
+    private ResultActions create(final String body) throws Exception {
+        return mockMvc.perform(post(ORDERS)
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+    }
+
+    private String json(final Order request) throws Exception {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    private String recordKey() throws Exception {
+        final byte[] digest = MessageDigest.getInstance("SHA-256")
+            .digest(("POST " + ORDERS + " " + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        final StringBuilder builder = new StringBuilder(digest.length * 2);
+        for (final byte b : digest) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
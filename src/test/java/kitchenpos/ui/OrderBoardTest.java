@@ -0,0 +1,95 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.domain.OrderChangedEvent;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderBoardTest {
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int EVENTS = 50;
+
+    private final OrderBoard orderBoard = new OrderBoard(
+        new ObjectMapper(),
+        Duration.ofMinutes(1),
+        Duration.ofMillis(100),
+        QUEUE_CAPACITY
+    );
+
+    @AfterEach
+    void tearDown() {
+        orderBoard.close();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotDelayOthersAndIsDroppedOnOverflow() throws Exception {
+        final StalledEmitter stalled = new StalledEmitter();
+        final RecordingEmitter healthy = new RecordingEmitter(EVENTS);
+        orderBoard.subscribe(stalled);
+        orderBoard.subscribe(healthy);
+
+        for (int i = 0; i < EVENTS; i++) {
+            orderBoard.onOrderChanged(orderChanged());
+        }
+
+        assertThat(healthy.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.released.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void subscriberStuckInSendIsDroppedAfterTheSendTimeout() throws Exception {
+        final StalledEmitter stalled = new StalledEmitter();
+        orderBoard.subscribe(stalled);
+
+        orderBoard.onOrderChanged(orderChanged());
+        assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        orderBoard.heartbeat();
+
+        assertThat(stalled.released.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static OrderChangedEvent orderChanged() {
+        return new OrderChangedEvent(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.ACCEPTED, null);
+    }
+
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException e) {
+                released.countDown();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch received;
+
+        private RecordingEmitter(final int events) {
+            this.received = new CountDownLatch(events);
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}